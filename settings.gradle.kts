@@ -0,0 +1,3 @@
+rootProject.name = "yeetables-build"
+
+include("yeetables", "yeetables-math")
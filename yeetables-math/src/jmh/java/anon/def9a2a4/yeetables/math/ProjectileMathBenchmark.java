@@ -0,0 +1,89 @@
+package anon.def9a2a4.yeetables.math;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of the hit and launch math. Inputs cycle through a pre-generated table so the
+ * JIT can't constant-fold them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProjectileMathBenchmark {
+    private static final int INPUTS = 1024;
+
+    private final double[] vx = new double[INPUTS];
+    private final double[] vy = new double[INPUTS];
+    private final double[] vz = new double[INPUTS];
+    private final double[] random = new double[INPUTS];
+    private final int[] face = new int[INPUTS];
+    private final double[] out = new double[3];
+    private int next;
+
+    @Setup
+    public void setup() {
+        SplittableRandom rng = new SplittableRandom(42);
+        for (int i = 0; i < INPUTS; i++) {
+            vx[i] = rng.nextDouble(-2, 2);
+            vy[i] = rng.nextDouble(-2, 2);
+            vz[i] = rng.nextDouble(-2, 2);
+            random[i] = rng.nextDouble();
+            face[i] = rng.nextInt(6);
+        }
+    }
+
+    private int index() {
+        return next = (next + 1) & (INPUTS - 1);
+    }
+
+    @Benchmark
+    public void reflect(Blackhole bh) {
+        int i = index();
+        int axis = face[i] >> 1;
+        int sign = (face[i] & 1) == 0 ? 1 : -1;
+        ProjectileMath.reflect(vx[i], vy[i], vz[i], axis == 0 ? sign : 0, axis == 1 ? sign : 0, axis == 2 ? sign : 0,
+            ProjectileMath.BOUNCE_DAMPING, out);
+        bh.consume(out);
+    }
+
+    @Benchmark
+    public void accuracyOffset(Blackhole bh) {
+        int i = index();
+        ProjectileMath.normalize(vx[i], vy[i], vz[i], out);
+        ProjectileMath.accuracyOffset(out[0], out[1], out[2], 0.05, random[i], random[(i + 1) & (INPUTS - 1)],
+            random[(i + 2) & (INPUTS - 1)], out);
+        bh.consume(out);
+    }
+
+    @Benchmark
+    public void knockback(Blackhole bh) {
+        int i = index();
+        ProjectileMath.knockback(vx[i], vy[i], vz[i], 1, 0, 0, 0.4, 0.2, out);
+        bh.consume(out);
+    }
+
+    @Benchmark
+    public void grapplePull(Blackhole bh) {
+        int i = index();
+        ProjectileMath.grapplePull(vx[i] * 10, vy[i] * 10, vz[i] * 10, 1.2, out);
+        bh.consume(out);
+    }
+
+    @Benchmark
+    public float yawPitch() {
+        int i = index();
+        float yaw = Angles.quantize(Angles.yaw(vx[i], vz[i]), 1f);
+        float pitch = Angles.quantize(Angles.pitch(vx[i], vy[i], vz[i]), 1f);
+        return Angles.yawDelta(yaw, pitch);
+    }
+}
@@ -0,0 +1,37 @@
+package anon.def9a2a4.yeetables.math;
+
+/**
+ * Minecraft yaw/pitch conventions in degrees: yaw 0 faces +Z and grows clockwise seen from above,
+ * pitch is positive looking down.
+ */
+public final class Angles {
+    private Angles() {}
+
+    /**
+     * Yaw of a direction. Only the horizontal components matter.
+     */
+    public static float yaw(double dx, double dz) {
+        return (float) Math.toDegrees(Math.atan2(-dx, dz));
+    }
+
+    /**
+     * Pitch of a direction.
+     */
+    public static float pitch(double dx, double dy, double dz) {
+        return (float) Math.toDegrees(-Math.atan2(dy, Math.sqrt(dx * dx + dz * dz)));
+    }
+
+    /**
+     * Round an angle to a multiple of {@code step}; a step of 0 or less leaves it unchanged.
+     */
+    public static float quantize(float degrees, float step) {
+        return step > 0f ? Math.round(degrees / step) * step : degrees;
+    }
+
+    /**
+     * Signed yaw difference {@code a - b}, wrapped to [-180, 180).
+     */
+    public static float yawDelta(float a, float b) {
+        return ((a - b + 540f) % 360f) - 180f;
+    }
+}
@@ -0,0 +1,111 @@
+package anon.def9a2a4.yeetables.math;
+
+/**
+ * Vector math for projectile launches and hits, on primitive doubles.
+ *
+ * Results are written to a caller-supplied {@code out} array of at least 3 elements (x, y, z), so hot
+ * paths can reuse one array instead of allocating. {@code out} may be reused across calls but must not
+ * be shared between threads.
+ */
+public final class ProjectileMath {
+    /** Squared length below which a velocity counts as stopped. */
+    public static final double MIN_LENGTH_SQUARED = 1e-6;
+    /** Speed kept by a projectile on each bounce. */
+    public static final double BOUNCE_DAMPING = 0.8;
+    /** Upper bound on the grapple pull speed, in blocks per tick. */
+    public static final double MAX_PULL_SPEED = 3.0;
+    /** Minimum upward pull of a grapple, so the player clears small obstacles. */
+    public static final double MIN_PULL_LIFT = 0.1;
+
+    private ProjectileMath() {}
+
+    /**
+     * Bounce a velocity off a block face and damp it.
+     *
+     * Axis-aligned faces (exactly one non-zero normal component) flip that component; any other face
+     * reverses the whole velocity.
+     *
+     * @param nx Face normal, as block face offsets (e.g. 0, 1, 0 for the top face)
+     */
+    public static void reflect(double vx, double vy, double vz, int nx, int ny, int nz, double damping,
+                               double[] out) {
+        int axes = (nx != 0 ? 1 : 0) + (ny != 0 ? 1 : 0) + (nz != 0 ? 1 : 0);
+        if (axes == 1) {
+            if (nx != 0) vx = -vx;
+            if (ny != 0) vy = -vy;
+            if (nz != 0) vz = -vz;
+        } else {
+            vx = -vx;
+            vy = -vy;
+            vz = -vz;
+        }
+        out[0] = vx * damping;
+        out[1] = vy * damping;
+        out[2] = vz * damping;
+    }
+
+    /**
+     * Jitter a unit direction by up to {@code offset / 2} per axis and renormalize.
+     *
+     * @param rx Uniform random values in [0, 1), one per axis - passed in so results are reproducible
+     */
+    public static void accuracyOffset(double dx, double dy, double dz, double offset,
+                                      double rx, double ry, double rz, double[] out) {
+        if (offset <= 0.0) {
+            out[0] = dx;
+            out[1] = dy;
+            out[2] = dz;
+            return;
+        }
+        normalize(dx + (rx - 0.5) * offset, dy + (ry - 0.5) * offset, dz + (rz - 0.5) * offset, out);
+    }
+
+    /**
+     * Knockback to add to a hit entity's velocity: along the projectile's velocity, or along
+     * {@code fallback} (projectile to entity) if the projectile had stopped, with at least
+     * {@code vertical} upward.
+     */
+    public static void knockback(double vx, double vy, double vz, double fallbackX, double fallbackY,
+                                 double fallbackZ, double strength, double vertical, double[] out) {
+        if (vx * vx + vy * vy + vz * vz < MIN_LENGTH_SQUARED) {
+            vx = fallbackX;
+            vy = fallbackY;
+            vz = fallbackZ;
+        }
+        normalize(vx, vy, vz, out);
+        out[0] *= strength;
+        out[1] = Math.max(out[1] * strength, vertical);
+        out[2] *= strength;
+    }
+
+    /**
+     * Velocity pulling a player toward a grapple hook: grows with the square root of the distance,
+     * capped at {@link #MAX_PULL_SPEED}, with at least {@link #MIN_PULL_LIFT} upward.
+     *
+     * @param tx Offset from the player to the hook
+     */
+    public static void grapplePull(double tx, double ty, double tz, double strength, double[] out) {
+        double distance = Math.sqrt(tx * tx + ty * ty + tz * tz);
+        if (distance == 0.0) {
+            out[0] = 0.0;
+            out[1] = MIN_PULL_LIFT;
+            out[2] = 0.0;
+            return;
+        }
+        double speed = Math.min(strength * Math.sqrt(distance), MAX_PULL_SPEED) / distance;
+        out[0] = tx * speed;
+        out[1] = Math.max(ty * speed, MIN_PULL_LIFT);
+        out[2] = tz * speed;
+    }
+
+    /**
+     * Scale a vector to unit length. A zero vector stays zero.
+     */
+    public static void normalize(double x, double y, double z, double[] out) {
+        double lenSq = x * x + y * y + z * z;
+        double inv = lenSq > 0.0 ? 1.0 / Math.sqrt(lenSq) : 0.0;
+        out[0] = x * inv;
+        out[1] = y * inv;
+        out[2] = z * inv;
+    }
+}
@@ -0,0 +1,83 @@
+package anon.def9a2a4.yeetables.math;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AnglesTest {
+    private static final float EPS = 1e-4f;
+
+    // Bukkit's Location.setDirection, reproduced so the conventions are checked without a server
+    private static float bukkitYaw(double x, double z) {
+        double theta = Math.atan2(-x, z);
+        return (float) Math.toDegrees((theta + 2 * Math.PI) % (2 * Math.PI));
+    }
+
+    private static float bukkitPitch(double x, double y, double z) {
+        return (float) Math.toDegrees(Math.atan(-y / Math.sqrt(x * x + z * z)));
+    }
+
+    @Test
+    void yawMatchesCardinalDirections() {
+        assertEquals(0f, Angles.yaw(0, 1), EPS);    // south, +Z
+        assertEquals(90f, Angles.yaw(-1, 0), EPS);  // west, -X
+        assertEquals(-90f, Angles.yaw(1, 0), EPS);  // east, +X
+        assertEquals(180f, Math.abs(Angles.yaw(0, -1)), EPS); // north, -Z
+    }
+
+    @Test
+    void pitchIsPositiveLookingDown() {
+        assertEquals(90f, Angles.pitch(0, -1, 0), EPS);
+        assertEquals(-90f, Angles.pitch(0, 1, 0), EPS);
+        assertEquals(0f, Angles.pitch(1, 0, 1), EPS);
+        assertEquals(45f, Angles.pitch(1, -1, 0), EPS);
+    }
+
+    @Test
+    void yawAndPitchMatchBukkit() {
+        for (int i = 0; i < 360; i += 15) {
+            for (int j = -75; j <= 75; j += 15) {
+                double yaw = Math.toRadians(i);
+                double pitch = Math.toRadians(j);
+                // Bukkit's Location.getDirection
+                double x = -Math.cos(pitch) * Math.sin(yaw);
+                double y = -Math.sin(pitch);
+                double z = Math.cos(pitch) * Math.cos(yaw);
+
+                // Bukkit reports yaw in [0, 360), ours in [-180, 180]
+                assertEquals(0f, Angles.yawDelta(Angles.yaw(x, z), bukkitYaw(x, z)), EPS, "yaw " + i);
+                assertEquals(bukkitPitch(x, y, z), Angles.pitch(x, y, z), EPS, "pitch " + j);
+            }
+        }
+    }
+
+    @Test
+    void quantizeRoundsToNearestStep() {
+        assertEquals(10f, Angles.quantize(12.4f, 5f), EPS);
+        assertEquals(15f, Angles.quantize(12.6f, 5f), EPS);
+        assertEquals(-15f, Angles.quantize(-12.6f, 5f), EPS);
+    }
+
+    @Test
+    void quantizeWithoutStepLeavesAngleUnchanged() {
+        assertEquals(12.345f, Angles.quantize(12.345f, 0f), 0f);
+        assertEquals(12.345f, Angles.quantize(12.345f, -1f), 0f);
+    }
+
+    @Test
+    void yawDeltaIsSignedDifference() {
+        assertEquals(0f, Angles.yawDelta(0f, 0f), EPS);
+        assertEquals(30f, Angles.yawDelta(40f, 10f), EPS);
+        assertEquals(-30f, Angles.yawDelta(10f, 40f), EPS);
+    }
+
+    @Test
+    void yawDeltaWrapsAcross180() {
+        assertEquals(-2f, Angles.yawDelta(179f, -179f), EPS);
+        assertEquals(2f, Angles.yawDelta(-179f, 179f), EPS);
+        assertEquals(20f, Angles.yawDelta(10f, 350f), EPS);
+        assertEquals(-20f, Angles.yawDelta(350f, 10f), EPS);
+        // Exactly opposite lands on the closed end of [-180, 180)
+        assertEquals(-180f, Angles.yawDelta(180f, 0f), EPS);
+    }
+}
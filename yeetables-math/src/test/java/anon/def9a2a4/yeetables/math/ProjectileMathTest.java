@@ -0,0 +1,176 @@
+package anon.def9a2a4.yeetables.math;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProjectileMathTest {
+    private static final double EPS = 1e-9;
+
+    private final double[] out = new double[3];
+
+    private static double length(double[] v) {
+        return Math.sqrt(v[0] * v[0] + v[1] * v[1] + v[2] * v[2]);
+    }
+
+    // reflect
+
+    @Test
+    void reflectFlipsOnlyTheComponentAlongEachAxisFace() {
+        // Face normal, then the expected reflection of (1, -2, 3) with damping 0.5
+        int[][] faces = {{1, 0, 0}, {-1, 0, 0}, {0, 1, 0}, {0, -1, 0}, {0, 0, 1}, {0, 0, -1}};
+        double[][] expected = {
+            {-0.5, -1, 1.5}, {-0.5, -1, 1.5},
+            {0.5, 1, 1.5}, {0.5, 1, 1.5},
+            {0.5, -1, -1.5}, {0.5, -1, -1.5}
+        };
+        for (int f = 0; f < faces.length; f++) {
+            int[] n = faces[f];
+            ProjectileMath.reflect(1, -2, 3, n[0], n[1], n[2], 0.5, out);
+            assertArrayEquals(expected[f], out, EPS, "face " + n[0] + "," + n[1] + "," + n[2]);
+        }
+    }
+
+    @Test
+    void reflectReversesVelocityOffNonAxisFace() {
+        ProjectileMath.reflect(1, -2, 3, 1, 1, 0, 0.5, out);
+        assertArrayEquals(new double[]{-0.5, 1, -1.5}, out, EPS);
+    }
+
+    @Test
+    void reflectReversesVelocityWithoutFace() {
+        ProjectileMath.reflect(1, -2, 3, 0, 0, 0, 0.5, out);
+        assertArrayEquals(new double[]{-0.5, 1, -1.5}, out, EPS);
+    }
+
+    @Test
+    void reflectWithBounceDampingKeepsThatFractionOfSpeed() {
+        ProjectileMath.reflect(0, -1, 1, 0, 1, 0, ProjectileMath.BOUNCE_DAMPING, out);
+        assertEquals(ProjectileMath.BOUNCE_DAMPING * Math.sqrt(2), length(out), EPS);
+    }
+
+    // accuracyOffset
+
+    @Test
+    void accuracyOffsetWithoutOffsetReturnsDirectionUnchanged() {
+        ProjectileMath.accuracyOffset(0.3, 0.4, 0.5, 0.0, 0.9, 0.1, 0.7, out);
+        assertArrayEquals(new double[]{0.3, 0.4, 0.5}, out, 0.0);
+
+        ProjectileMath.accuracyOffset(0.3, 0.4, 0.5, -1.0, 0.9, 0.1, 0.7, out);
+        assertArrayEquals(new double[]{0.3, 0.4, 0.5}, out, 0.0);
+    }
+
+    @Test
+    void accuracyOffsetResultIsNormalized() {
+        double[][] randoms = {{0, 0, 0}, {0.999, 0.999, 0.999}, {0.1, 0.9, 0.4}, {0.5, 0.5, 0.5}};
+        for (double[] r : randoms) {
+            ProjectileMath.accuracyOffset(0, 0, 1, 0.3, r[0], r[1], r[2], out);
+            assertEquals(1.0, length(out), EPS);
+        }
+    }
+
+    @Test
+    void accuracyOffsetWithCenteredRandomsKeepsDirection() {
+        ProjectileMath.accuracyOffset(0.6, 0, 0.8, 0.5, 0.5, 0.5, 0.5, out);
+        assertArrayEquals(new double[]{0.6, 0, 0.8}, out, EPS);
+    }
+
+    // knockback
+
+    @Test
+    void knockbackFollowsProjectileVelocity() {
+        ProjectileMath.knockback(3, 0, 4, 0, 0, -1, 2.0, 0.0, out);
+        assertArrayEquals(new double[]{1.2, 0, 1.6}, out, EPS);
+    }
+
+    @Test
+    void knockbackOfStoppedProjectileFollowsFallback() {
+        ProjectileMath.knockback(0, 0, 0, 0, 0, 2, 1.5, 0.0, out);
+        assertArrayEquals(new double[]{0, 0, 1.5}, out, EPS);
+    }
+
+    @Test
+    void knockbackOfNearlyStoppedProjectileFollowsFallback() {
+        // Squared length 1e-8, below MIN_LENGTH_SQUARED
+        ProjectileMath.knockback(1e-4, 0, 0, 0, 0, 2, 1.5, 0.0, out);
+        assertArrayEquals(new double[]{0, 0, 1.5}, out, EPS);
+
+        // Squared length 1e-4, above it - the velocity wins
+        ProjectileMath.knockback(1e-2, 0, 0, 0, 0, 2, 1.5, 0.0, out);
+        assertArrayEquals(new double[]{1.5, 0, 0}, out, EPS);
+    }
+
+    @Test
+    void knockbackLiftsAtLeastVertical() {
+        ProjectileMath.knockback(1, 0, 0, 0, 0, 1, 0.5, 0.35, out);
+        assertArrayEquals(new double[]{0.5, 0.35, 0}, out, EPS);
+
+        // A downward projectile still lifts
+        ProjectileMath.knockback(0, -1, 1, 0, 0, 1, 1.0, 0.35, out);
+        assertEquals(0.35, out[1], EPS);
+    }
+
+    @Test
+    void knockbackKeepsLiftAboveVertical() {
+        ProjectileMath.knockback(0, 1, 0, 0, 0, 1, 2.0, 0.35, out);
+        assertArrayEquals(new double[]{0, 2.0, 0}, out, EPS);
+    }
+
+    @Test
+    void knockbackWithNoDirectionAtAllOnlyLifts() {
+        ProjectileMath.knockback(0, 0, 0, 0, 0, 0, 1.0, 0.35, out);
+        assertArrayEquals(new double[]{0, 0.35, 0}, out, EPS);
+    }
+
+    // grapplePull
+
+    @Test
+    void grapplePullAtZeroDistanceOnlyLifts() {
+        ProjectileMath.grapplePull(0, 0, 0, 1.0, out);
+        assertArrayEquals(new double[]{0, ProjectileMath.MIN_PULL_LIFT, 0}, out, EPS);
+    }
+
+    @Test
+    void grapplePullGrowsWithSquareRootOfDistance() {
+        ProjectileMath.grapplePull(4, 0, 0, 0.5, out);
+        assertEquals(1.0, out[0], EPS);
+
+        ProjectileMath.grapplePull(0, 9, 0, 0.5, out);
+        assertArrayEquals(new double[]{0, 1.5, 0}, out, EPS);
+    }
+
+    @Test
+    void grapplePullIsCappedAtMaxSpeed() {
+        ProjectileMath.grapplePull(100, 0, 0, 1.0, out);
+        assertEquals(ProjectileMath.MAX_PULL_SPEED, out[0], EPS);
+
+        ProjectileMath.grapplePull(0, 400, 300, 5.0, out);
+        assertEquals(ProjectileMath.MAX_PULL_SPEED, length(out), EPS);
+    }
+
+    @Test
+    void grapplePullLiftsTowardHookBelow() {
+        ProjectileMath.grapplePull(4, -4, 0, 1.0, out);
+        assertEquals(ProjectileMath.MIN_PULL_LIFT, out[1], EPS);
+        assertTrue(out[0] > 0);
+
+        ProjectileMath.grapplePull(4, 0, 0, 1.0, out);
+        assertEquals(ProjectileMath.MIN_PULL_LIFT, out[1], EPS);
+    }
+
+    // normalize
+
+    @Test
+    void normalizeScalesToUnitLength() {
+        ProjectileMath.normalize(3, 4, 0, out);
+        assertArrayEquals(new double[]{0.6, 0.8, 0}, out, EPS);
+    }
+
+    @Test
+    void normalizeKeepsZeroVectorZero() {
+        ProjectileMath.normalize(0, 0, 0, out);
+        assertArrayEquals(new double[]{0, 0, 0}, out, 0.0);
+    }
+}
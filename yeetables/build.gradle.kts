@@ -1,6 +1,7 @@
 plugins {
     `java`
     id("com.gradleup.shadow") version "9.0.0-beta4"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "anon.def9a2a4"
@@ -23,6 +24,21 @@ repositories {
 dependencies {
     compileOnly("io.papermc.paper:paper-api:1.21.11-R0.1-SNAPSHOT")
     implementation("org.bstats:bstats-bukkit:3.1.0")
+    implementation(project(":yeetables-math"))
+
+    // Benchmarks run the plugin on a mock server
+    jmh("io.papermc.paper:paper-api:1.21.11-R0.1-SNAPSHOT")
+    jmh("org.mockbukkit.mockbukkit:mockbukkit-v1.21:4.45.1")
+}
+
+jmh {
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    // Allocation rate per operation next to the time
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
 }
 
 tasks {
@@ -0,0 +1,168 @@
+package anon.def9a2a4.yeetables;
+
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A mock server with the plugin enabled, shared by the benchmarks. One per benchmark trial.
+ */
+final class BenchmarkServer {
+    // Throwable materials cycled through by generated definitions
+    private static final Material[] MATERIALS = {
+        Material.BRICK, Material.SLIME_BALL, Material.PAPER, Material.CLAY_BALL, Material.NETHER_BRICK,
+        Material.MAGMA_CREAM, Material.FIRE_CHARGE, Material.FLINT, Material.BONE, Material.FEATHER
+    };
+
+    final ServerMock server;
+    final YeetablesPlugin plugin;
+    final World world;
+    final PlayerMock player;
+
+    private BenchmarkServer() {
+        server = MockBukkit.mock();
+        plugin = MockBukkit.load(YeetablesPlugin.class);
+        world = server.addSimpleWorld("bench");
+        player = server.addPlayer();
+        player.teleport(new Location(world, 0.5, 64, 0.5));
+        player.setGameMode(GameMode.CREATIVE); // Throws consume nothing
+    }
+
+    static BenchmarkServer start() {
+        return new BenchmarkServer();
+    }
+
+    void stop() {
+        MockBukkit.unmock();
+    }
+
+    /**
+     * Replace yeetables.yml and load it synchronously.
+     */
+    void loadYeetables(String yaml) {
+        writeFile("yeetables.yml", yaml);
+        plugin.getConfigManager().load();
+    }
+
+    /**
+     * Lift the display budget and disable pooling, so every launch of a display-rendered yeetable
+     * spawns its full model no matter how many piled up during an iteration.
+     */
+    void unlimitedDisplays() {
+        writeFile("config.yml", """
+            display-pool:
+              size: 0
+            display-budget:
+              per-world: 0
+              per-region: 0
+            """);
+    }
+
+    void writeFile(String name, String content) {
+        try {
+            Files.writeString(plugin.getDataFolder().toPath().resolve(name), content, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    Path configCacheFile() {
+        return plugin.getDataFolder().toPath().resolve("cache").resolve("config.bin");
+    }
+
+    /**
+     * Remove everything but players and let the plugin's tasks notice, so runs don't pile up entities.
+     */
+    void clearEntities() {
+        for (Entity entity : world.getEntities()) {
+            if (!(entity instanceof Player)) entity.remove();
+        }
+        server.getScheduler().performOneTick();
+    }
+
+    static Material material(int index) {
+        return MATERIALS[index % MATERIALS.length];
+    }
+
+    static String displayName(int index) {
+        return "Yeetable " + index;
+    }
+
+    /**
+     * {@code count} simple definitions spread over a few materials, each told apart by display name,
+     * so lookups have to scan several candidates per material.
+     */
+    static String generatedYeetables(int count) {
+        StringBuilder yaml = new StringBuilder("yeetables:\n");
+        for (int i = 0; i < count; i++) {
+            Material material = material(i);
+            yaml.append("  - id: generated_").append(i).append('\n')
+                .append("    item:\n")
+                .append("      material: ").append(material).append('\n')
+                .append("      display-name: \"").append(displayName(i)).append("\"\n")
+                .append("      lore:\n")
+                .append("        - \"Right-click to throw\"\n")
+                .append("    properties:\n")
+                .append("      speed: 1.0\n")
+                .append("      damage: 1.0\n")
+                .append("    render:\n")
+                .append("      type: simple\n")
+                .append("      material: ").append(material).append('\n');
+        }
+        return yaml.toString();
+    }
+
+    /**
+     * One definition per render type, ids matching the render type names. No abilities, so hits only run
+     * the shared damage/knockback/particle path.
+     */
+    static String renderTypeYeetables() {
+        return """
+            yeetables:
+              - id: simple
+                item:
+                  material: BRICK
+                properties:
+                  damage: 4.0
+                  knockback-strength: 0.4
+                render:
+                  type: simple
+                  material: BRICK
+              - id: block-display
+                item:
+                  material: PAPER
+                properties:
+                  gravity-multiplier: 0.3
+                  knockback-strength: 0.4
+                render:
+                  type: block-display
+                  blocks:
+                    - block: WHITE_CARPET
+                      transformation: [0.34375, 0.0, 0.0, 0.0, 0.0, 0.25, 0.0, 0.0625, 0.0, 0.0, 0.3125, 0.0, 0.0, 0.0, 0.0, 1.0]
+                    - block: WHITE_CARPET
+                      transformation: [0.0, -0.25, 0.0, 0.18, 0.0625, 0.0, 0.0, 0.0, 0.0, 0.0, 0.52734375, 0.0, 0.0, 0.0, 0.0, 1.0]
+                    - block: WHITE_CARPET
+                      transformation: [0.17, 0.0, -0.17, 0.17, 0.0, 0.25, 0.0, 0.06, 0.22, 0.0, 0.22, 0.09, 0.0, 0.0, 0.0, 1.0]
+              - id: item-display
+                item:
+                  material: SLIME_BALL
+                properties:
+                  knockback-strength: 0.4
+                render:
+                  type: item-display
+                  material: SLIME_BALL
+            """;
+    }
+}
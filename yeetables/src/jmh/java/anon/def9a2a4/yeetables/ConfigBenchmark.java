@@ -0,0 +1,148 @@
+package anon.def9a2a4.yeetables;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Item lookup on every right-click, uncached and through the per-player held item cache, and config loading,
+ * against generated configs of increasing size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConfigBenchmark {
+    @Param({"10", "100", "1000"})
+    public int definitions;
+
+    private BenchmarkServer bench;
+    private ConfigManager configManager;
+    private HeldItemCache heldItemCache;
+    // Matches the last definition - the most candidates scanned for its material
+    private ItemStack matching;
+    // Same material and lore, unknown name - every candidate scanned, no match
+    private ItemStack nearMiss;
+    // Material no definition uses - rejected by the material index
+    private ItemStack unrelated;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        bench = BenchmarkServer.start();
+        bench.loadYeetables(BenchmarkServer.generatedYeetables(definitions));
+        configManager = bench.plugin.getConfigManager();
+
+        int last = definitions - 1;
+        matching = named(BenchmarkServer.material(last), BenchmarkServer.displayName(last));
+        nearMiss = named(BenchmarkServer.material(last), "Not a yeetable");
+        unrelated = new ItemStack(Material.DIRT);
+
+        // Player holds the matching stack; the first resolve fills the cache
+        heldItemCache = new HeldItemCache(configManager);
+        bench.player.getInventory().setItemInMainHand(matching);
+        heldItemCache.resolve(bench.player);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        bench.stop();
+    }
+
+    private static ItemStack named(Material material, String name) {
+        ItemStack item = new ItemStack(material);
+        ItemMeta meta = item.getItemMeta();
+        meta.setDisplayName(name);
+        meta.setLore(List.of("Right-click to throw"));
+        item.setItemMeta(meta);
+        return item;
+    }
+
+    @Benchmark
+    public YeetableDefinition findMatching() {
+        return configManager.findMatchingYeetable(matching);
+    }
+
+    /**
+     * Repeat click with the same stack selected - compare against {@link #findMatching}.
+     */
+    @Benchmark
+    public YeetableDefinition resolveCached() {
+        return heldItemCache.resolve(bench.player);
+    }
+
+    @Benchmark
+    public YeetableDefinition findNearMiss() {
+        return configManager.findMatchingYeetable(nearMiss);
+    }
+
+    @Benchmark
+    public YeetableDefinition findUnrelated() {
+        return configManager.findMatchingYeetable(unrelated);
+    }
+
+    /**
+     * Reload without config changes: every definition is reused from the previous snapshot.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ConfigSnapshot reloadUnchanged() {
+        configManager.load();
+        return configManager.getSnapshot();
+    }
+
+    /**
+     * Load with an up-to-date binary cache but no previous snapshot, as on a restart without config changes.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ConfigSnapshot loadCached(Restart restart) {
+        restart.configManager.load();
+        return restart.configManager.getSnapshot();
+    }
+
+    /**
+     * Cold load: the binary cache deleted and no previous snapshot to reuse definitions from, so every
+     * file is parsed from YAML and every definition built, as on a first start.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ConfigSnapshot loadUncached(ColdLoad cold) {
+        cold.configManager.load();
+        return cold.configManager.getSnapshot();
+    }
+
+    @State(Scope.Thread)
+    public static class Restart {
+        ConfigManager configManager;
+
+        @Setup(Level.Invocation)
+        public void create(ConfigBenchmark benchmark) {
+            configManager = new ConfigManager(benchmark.bench.plugin);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ColdLoad {
+        ConfigManager configManager;
+
+        @Setup(Level.Invocation)
+        public void clear(ConfigBenchmark benchmark) throws IOException {
+            Files.deleteIfExists(benchmark.bench.configCacheFile());
+            configManager = new ConfigManager(benchmark.bench.plugin);
+        }
+    }
+}
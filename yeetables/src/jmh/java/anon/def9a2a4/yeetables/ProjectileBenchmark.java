@@ -0,0 +1,89 @@
+package anon.def9a2a4.yeetables;
+
+import org.bukkit.Location;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.entity.Snowball;
+import org.bukkit.entity.Zombie;
+import org.bukkit.event.entity.ProjectileHitEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a throw and of its hit, per render type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProjectileBenchmark {
+    @Param({"simple", "block-display", "item-display"})
+    public String render;
+
+    private BenchmarkServer bench;
+    private ProjectileManager manager;
+    private YeetableDefinition def;
+    private Zombie target;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        bench = BenchmarkServer.start();
+        bench.unlimitedDisplays();
+        bench.loadYeetables(BenchmarkServer.renderTypeYeetables());
+        manager = bench.plugin.getProjectileManager();
+        def = bench.plugin.getConfigManager().getYeetableById(render);
+        target = bench.world.spawn(new Location(bench.world, 0.5, 64, 4.5), Zombie.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearIteration() {
+        bench.clearEntities();
+        target = bench.world.spawn(new Location(bench.world, 0.5, 64, 4.5), Zombie.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        bench.stop();
+    }
+
+    @Benchmark
+    public void launch() {
+        manager.launch(bench.player, def);
+    }
+
+    @Benchmark
+    public void handleHit(InFlight inFlight) {
+        manager.handleHit(inFlight.event, inFlight.snowball);
+    }
+
+    /**
+     * A freshly launched projectile about to hit the target, one per invocation.
+     */
+    @State(Scope.Thread)
+    public static class InFlight {
+        Snowball snowball;
+        ProjectileHitEvent event;
+
+        @Setup(Level.Invocation)
+        public void launch(ProjectileBenchmark benchmark) {
+            BenchmarkServer bench = benchmark.bench;
+            // Keep the target alive and the world down to one projectile
+            benchmark.target.setHealth(benchmark.target.getAttribute(Attribute.MAX_HEALTH).getValue());
+            for (Snowball old : bench.world.getEntitiesByClass(Snowball.class)) {
+                old.remove();
+            }
+
+            benchmark.manager.launch(bench.player, benchmark.def);
+            snowball = bench.world.getEntitiesByClass(Snowball.class).iterator().next();
+            event = new ProjectileHitEvent(snowball, benchmark.target, null, null);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package anon.def9a2a4.yeetables;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.entity.Snowball;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Launch and impact allocations before and after config-load prototypes. Each {@code allocating*} benchmark
+ * is the per-throw path the plugin used to take, kept here as the baseline for its {@code prototype*} pair;
+ * compare their {@code gc.alloc.rate.norm} (bytes per operation) under the GC profiler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PrototypeBenchmark {
+    private BenchmarkServer bench;
+    private Snowball carrier;
+    private Location impact;
+    private SimpleRender simple;
+    private BlockDisplayRender blockDisplay;
+    private YeetableDefinition simpleDef;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        bench = BenchmarkServer.start();
+        bench.loadYeetables(BenchmarkServer.renderTypeYeetables());
+
+        ConfigManager configManager = bench.plugin.getConfigManager();
+        simpleDef = configManager.getYeetableById("simple");
+        simple = (SimpleRender) simpleDef.renderConfig();
+        blockDisplay = (BlockDisplayRender) configManager.getYeetableById("block-display").renderConfig();
+
+        impact = new Location(bench.world, 0.5, 64, 4.5);
+        carrier = bench.world.spawn(impact, Snowball.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        bench.stop();
+    }
+
+    // Carrier item, once per launch
+
+    @Benchmark
+    public void allocatingCarrierItem() {
+        carrier.setItem(new ItemStack(simple.material()));
+    }
+
+    @Benchmark
+    public void prototypeCarrierItem() {
+        carrier.setItem(simple.item());
+    }
+
+    // Particle data, once per hit
+
+    @Benchmark
+    public void allocatingImpactParticles() {
+        bench.world.spawnParticle(Particle.ITEM, impact, 15, 0.25, 0.25, 0.25, 0.1,
+            new ItemStack(simple.material()));
+    }
+
+    @Benchmark
+    public void prototypeImpactParticles() {
+        bench.world.spawnParticle(Particle.ITEM, impact, 15, 0.25, 0.25, 0.25, 0.1, simpleDef.particleItem());
+    }
+
+    // Block data for every part of a block display model, once per launch
+
+    @Benchmark
+    public void allocatingModelBlockData(Blackhole blackhole) {
+        for (ModelPart part : blockDisplay.parts()) {
+            blackhole.consume(Bukkit.createBlockData(part.material()));
+        }
+    }
+
+    @Benchmark
+    public void prototypeModelBlockData(Blackhole blackhole) {
+        for (ModelPart part : blockDisplay.parts()) {
+            blackhole.consume(part.blockData());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package anon.def9a2a4.yeetables;
+
+import org.bukkit.entity.Snowball;
+import org.joml.Matrix4f;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-tick rotation update of a live renderer: a changed rotation rewrites every part's transformation,
+ * an unchanged one should be skipped.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RotationBenchmark {
+    @Param({"block-display", "item-display"})
+    public String render;
+
+    @Param({"true", "false"})
+    public boolean changing;
+
+    private BenchmarkServer bench;
+    private TickedRenderer renderer;
+    private final Matrix4f[] rotations = {
+        new Matrix4f().rotationY(0.3f).rotateX(-0.2f),
+        new Matrix4f().rotationY(0.31f).rotateX(-0.21f)
+    };
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        bench = BenchmarkServer.start();
+        bench.unlimitedDisplays();
+        bench.loadYeetables(BenchmarkServer.renderTypeYeetables());
+
+        YeetableDefinition def = bench.plugin.getConfigManager().getYeetableById(render);
+        bench.plugin.getProjectileManager().launch(bench.player, def);
+        Snowball carrier = bench.world.getEntitiesByClass(Snowball.class).iterator().next();
+        renderer = (TickedRenderer) RendererRegistry.get(carrier.getEntityId());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        bench.stop();
+    }
+
+    @Benchmark
+    public void applyRotation() {
+        if (changing) next ^= 1;
+        renderer.applyRotation(rotations[next]);
+    }
+}
@@ -1,5 +1,6 @@
 package anon.def9a2a4.yeetables;
 
+import anon.def9a2a4.yeetables.math.ProjectileMath;
 import org.bukkit.Location;
 import org.bukkit.Sound;
 import org.bukkit.block.BlockFace;
@@ -7,7 +8,6 @@ import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.SmallFireball;
-import org.bukkit.entity.Snowball;
 import org.bukkit.event.entity.ProjectileHitEvent;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.potion.PotionEffect;
@@ -51,80 +51,145 @@ public class AbilityRegistry {
     }
 }
 
+/**
+ * Typed, pre-validated ability settings parsed from a yeetable's ability-config section.
+ */
+interface AbilityConfig {}
+
 /**
  * Interface for special projectile behaviors.
  */
 interface Ability {
     /**
-     * Called when the projectile hits something.
+     * Called once at config load to parse and validate the ability-config section.
      *
-     * @param event The hit event
-     * @param snowball The projectile
+     * @param section The ability-config section (empty if not configured)
+     * @return The parsed config, passed back to onHit (may be null if the ability has no options)
+     * @throws IllegalArgumentException if the config is invalid
+     */
+    AbilityConfig parseConfig(ConfigurationSection section);
+
+    /**
+     * Called when the projectile hits something, whether it is a real snowball or simulated.
+     *
+     * @param hit What was hit, and the projectile's position and velocity at impact
      * @param definition The yeetable definition
-     * @param abilityConfig The ability-specific config section (may be null)
+     * @param abilityConfig The config returned by parseConfig for this yeetable
      * @param manager The projectile manager (for spawning bounced projectiles)
      * @return true if the projectile should be destroyed, false to keep it alive (e.g., for bouncing)
      */
-    boolean onHit(ProjectileHitEvent event, Snowball snowball, YeetableDefinition definition,
-                  ConfigurationSection abilityConfig, ProjectileManager manager);
+    boolean onHit(HitContext hit, YeetableDefinition definition, AbilityConfig abilityConfig,
+                  ProjectileManager manager);
+}
+
+/**
+ * How a projectile bounces off a block.
+ */
+enum BounceMode {
+    // Reflect the same projectile within the hit tick; it keeps its renderer
+    IN_PLACE,
+    // Replace it with a new projectile on the next tick
+    RESPAWN;
+
+    static BounceMode parse(ConfigurationSection section) {
+        String value = section.getString("bounce-mode", "in-place");
+        try {
+            return valueOf(value.toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown bounce-mode: " + value);
+        }
+    }
 }
 
+record BounceConfig(int numBounces, BounceMode mode) implements AbilityConfig {}
+
+record ExplodeConfig(float power, boolean setFire, boolean breakBlocks) implements AbilityConfig {}
+
+record IgniteConfig(int numBounces, int fireTicks, BounceMode mode) implements AbilityConfig {}
+
+record PotionConfig(PotionEffectType effect, int duration, int amplifier) implements AbilityConfig {}
+
+record GrappleConfig(int despawnTicks, double pullStrength) implements AbilityConfig {}
+
 /**
  * Bounce ability - projectile bounces off blocks.
  */
 class BounceAbility implements Ability {
     @Override
-    public boolean onHit(ProjectileHitEvent event, Snowball snowball, YeetableDefinition definition,
-                         ConfigurationSection abilityConfig, ProjectileManager manager) {
+    public AbilityConfig parseConfig(ConfigurationSection section) {
+        int numBounces = section.getInt("num-bounces", 3);
+        if (numBounces < 0) throw new IllegalArgumentException("num-bounces must not be negative");
+        return new BounceConfig(numBounces, BounceMode.parse(section));
+    }
+
+    @Override
+    public boolean onHit(HitContext hit, YeetableDefinition definition, AbilityConfig abilityConfig,
+                         ProjectileManager manager) {
 
         // Entity hit - don't bounce, let normal hit handling occur
-        if (event.getHitEntity() instanceof LivingEntity) {
+        if (hit.getHitEntity() instanceof LivingEntity) {
             return true;
         }
 
+        return bounce(hit, definition, ((BounceConfig) abilityConfig).mode(), manager);
+    }
+
+    /**
+     * Bounce off the hit block if bounces are left.
+     *
+     * @return false if the projectile was reflected in place and stays alive, true if it is destroyed
+     *         (out of bounces, or replaced by a new projectile on the next tick)
+     */
+    static boolean bounce(HitContext hit, YeetableDefinition definition, BounceMode mode, ProjectileManager manager) {
         // Check remaining bounces
-        int remaining = manager.getRemainingBounces(snowball);
+        int remaining = hit.getRemainingBounces();
         if (remaining <= 0) {
             return true; // No bounces left, destroy
         }
 
-        BlockFace face = event.getHitBlockFace();
+        BlockFace face = hit.getHitBlockFace();
         if (face == null) {
             return true;
         }
 
-        // Calculate bounce velocity
-        Vector v = snowball.getVelocity().clone();
-        if (v.lengthSquared() < 1e-6) {
-            v = snowball.getLocation().getDirection();
-        }
+        final Vector finalVelocity = bounceVelocity(hit, face);
 
-        double damp = 0.8; // Lose some speed each bounce
-        switch (face) {
-            case NORTH, SOUTH -> v.setZ(-v.getZ());
-            case EAST, WEST -> v.setX(-v.getX());
-            case UP, DOWN -> v.setY(-v.getY());
-            default -> v.multiply(-1);
+        // Same entity, same tick - falls back to a respawn for projectiles that can't continue
+        if (mode == BounceMode.IN_PLACE && hit.reflect(finalVelocity)) {
+            return false;
         }
-        v.multiply(damp);
 
         // Spawn new projectile with reduced bounce count
-        final Vector finalVelocity = v.clone();
         final int newBounces = remaining - 1;
+        final Location spawnLoc = hit.getLocation().add(finalVelocity.clone().normalize().multiply(0.1));
 
         JavaPlugin plugin = manager.getPlugin();
         new BukkitRunnable() {
             @Override
             public void run() {
-                if (!(snowball.getShooter() instanceof Player shooter)) return;
+                if (!(hit.getShooter() instanceof Player shooter)) return;
 
-                Location spawnLoc = snowball.getLocation().add(finalVelocity.clone().normalize().multiply(0.1));
                 manager.spawnBouncedProjectile(shooter, spawnLoc, finalVelocity, definition, newBounces);
             }
         }.runTask(plugin);
 
         return true; // Original projectile is destroyed, new one spawned
     }
+
+    /**
+     * Velocity after bouncing off a block face, losing some speed.
+     */
+    static Vector bounceVelocity(HitContext hit, BlockFace face) {
+        Vector v = hit.getVelocity();
+        if (v.lengthSquared() < ProjectileMath.MIN_LENGTH_SQUARED) {
+            v = hit.getLocation().getDirection();
+        }
+
+        double[] out = new double[3];
+        ProjectileMath.reflect(v.getX(), v.getY(), v.getZ(), face.getModX(), face.getModY(), face.getModZ(),
+            ProjectileMath.BOUNCE_DAMPING, out);
+        return new Vector(out[0], out[1], out[2]);
+    }
 }
 
 /**
@@ -132,29 +197,26 @@ class BounceAbility implements Ability {
  */
 class ExplodeAbility implements Ability {
     @Override
-    public boolean onHit(ProjectileHitEvent event, Snowball snowball, YeetableDefinition definition,
-                         ConfigurationSection abilityConfig, ProjectileManager manager) {
-
-        Location explosionLoc = snowball.getLocation();
+    public AbilityConfig parseConfig(ConfigurationSection section) {
+        float power = (float) section.getDouble("power", 2.0);
+        if (power < 0) throw new IllegalArgumentException("power must not be negative");
+        return new ExplodeConfig(power, section.getBoolean("set-fire", false), section.getBoolean("break-blocks", false));
+    }
 
-        // Get explosion parameters from config
-        float power = 2.0f;
-        boolean setFire = false;
-        boolean breakBlocks = false;
+    @Override
+    public boolean onHit(HitContext hit, YeetableDefinition definition, AbilityConfig abilityConfig,
+                         ProjectileManager manager) {
 
-        if (abilityConfig != null) {
-            power = (float) abilityConfig.getDouble("power", 2.0);
-            setFire = abilityConfig.getBoolean("set-fire", false);
-            breakBlocks = abilityConfig.getBoolean("break-blocks", false);
-        }
+        Location explosionLoc = hit.getLocation();
+        ExplodeConfig config = (ExplodeConfig) abilityConfig;
 
         // Create explosion
         explosionLoc.getWorld().createExplosion(
             explosionLoc,
-            power,
-            setFire,
-            breakBlocks,
-            snowball.getShooter() instanceof Player p ? p : null
+            config.power(),
+            config.setFire(),
+            config.breakBlocks(),
+            hit.getShooter() instanceof Player p ? p : null
         );
 
         return true; // Projectile destroyed after explosion
@@ -166,17 +228,22 @@ class ExplodeAbility implements Ability {
  */
 class FireballAbility implements Ability {
     @Override
-    public boolean onHit(ProjectileHitEvent event, Snowball snowball, YeetableDefinition definition,
-                         ConfigurationSection abilityConfig, ProjectileManager manager) {
+    public AbilityConfig parseConfig(ConfigurationSection section) {
+        return null;
+    }
 
-        Location loc = snowball.getLocation();
-        Vector direction = snowball.getVelocity().normalize();
+    @Override
+    public boolean onHit(HitContext hit, YeetableDefinition definition, AbilityConfig abilityConfig,
+                         ProjectileManager manager) {
+
+        Location loc = hit.getLocation();
+        Vector direction = hit.getVelocity().normalize();
 
         // Spawn small fireball like a dispenser would
         SmallFireball fireball = loc.getWorld().spawn(loc, SmallFireball.class, fb -> {
             fb.setDirection(direction);
             fb.setIsIncendiary(true);
-            if (snowball.getShooter() instanceof Player p) {
+            if (hit.getShooter() instanceof Player p) {
                 fb.setShooter(p);
             }
         });
@@ -186,64 +253,31 @@ class FireballAbility implements Ability {
 }
 
 /**
- * Ignite ability - bounces off blocks and sets entities on fire.
+ * Ignite ability - sets entities on fire, and bounces off blocks if num-bounces is set.
  */
 class IgniteAbility implements Ability {
     @Override
-    public boolean onHit(ProjectileHitEvent event, Snowball snowball, YeetableDefinition definition,
-                         ConfigurationSection abilityConfig, ProjectileManager manager) {
+    public AbilityConfig parseConfig(ConfigurationSection section) {
+        // Only bounces off blocks when num-bounces is set
+        int numBounces = section.getInt("num-bounces", 0);
+        int fireTicks = section.getInt("fire-ticks", 100); // 5 seconds default
+        if (numBounces < 0) throw new IllegalArgumentException("num-bounces must not be negative");
+        if (fireTicks < 0) throw new IllegalArgumentException("fire-ticks must not be negative");
+        return new IgniteConfig(numBounces, fireTicks, BounceMode.parse(section));
+    }
 
-        int fireTicks = 100; // 5 seconds default
-        if (abilityConfig != null) {
-            fireTicks = abilityConfig.getInt("fire-ticks", 100);
-        }
+    @Override
+    public boolean onHit(HitContext hit, YeetableDefinition definition, AbilityConfig abilityConfig,
+                         ProjectileManager manager) {
 
         // Entity hit - set on fire
-        if (event.getHitEntity() instanceof LivingEntity le) {
-            le.setFireTicks(fireTicks);
+        if (hit.getHitEntity() instanceof LivingEntity le) {
+            le.setFireTicks(((IgniteConfig) abilityConfig).fireTicks());
             return true;
         }
 
         // Block hit - bounce like slimeball
-        int remaining = manager.getRemainingBounces(snowball);
-        if (remaining <= 0) {
-            return true;
-        }
-
-        BlockFace face = event.getHitBlockFace();
-        if (face == null) {
-            return true;
-        }
-
-        Vector v = snowball.getVelocity().clone();
-        if (v.lengthSquared() < 1e-6) {
-            v = snowball.getLocation().getDirection();
-        }
-
-        double damp = 0.8;
-        switch (face) {
-            case NORTH, SOUTH -> v.setZ(-v.getZ());
-            case EAST, WEST -> v.setX(-v.getX());
-            case UP, DOWN -> v.setY(-v.getY());
-            default -> v.multiply(-1);
-        }
-        v.multiply(damp);
-
-        final Vector finalVelocity = v.clone();
-        final int newBounces = remaining - 1;
-
-        JavaPlugin plugin = manager.getPlugin();
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (!(snowball.getShooter() instanceof Player shooter)) return;
-
-                Location spawnLoc = snowball.getLocation().add(finalVelocity.clone().normalize().multiply(0.1));
-                manager.spawnBouncedProjectile(shooter, spawnLoc, finalVelocity, definition, newBounces);
-            }
-        }.runTask(plugin);
-
-        return true;
+        return BounceAbility.bounce(hit, definition, ((IgniteConfig) abilityConfig).mode(), manager);
     }
 }
 
@@ -252,34 +286,34 @@ class IgniteAbility implements Ability {
  */
 class PotionAbility implements Ability {
     @Override
-    public boolean onHit(ProjectileHitEvent event, Snowball snowball, YeetableDefinition definition,
-                         ConfigurationSection abilityConfig, ProjectileManager manager) {
-
-        if (!(event.getHitEntity() instanceof LivingEntity le)) {
-            return true; // Only affects entities
-        }
-
-        // Get potion effect parameters from config
-        String effectName = "SLOWNESS";
-        int duration = 100; // 5 seconds
-        int amplifier = 0;  // Level 1
-
-        if (abilityConfig != null) {
-            effectName = abilityConfig.getString("effect", "SLOWNESS").toUpperCase();
-            duration = abilityConfig.getInt("duration", 100);
-            amplifier = abilityConfig.getInt("amplifier", 0);
-        }
+    public AbilityConfig parseConfig(ConfigurationSection section) {
+        String effectName = section.getString("effect", "SLOWNESS").toUpperCase();
+        int duration = section.getInt("duration", 100); // 5 seconds
+        int amplifier = section.getInt("amplifier", 0);  // Level 1
 
         PotionEffectType effectType = PotionEffectType.getByName(effectName);
         if (effectType == null) {
             // Try registry lookup for newer versions
             effectType = org.bukkit.Registry.EFFECT.get(org.bukkit.NamespacedKey.minecraft(effectName.toLowerCase()));
         }
+        if (effectType == null) throw new IllegalArgumentException("Unknown potion effect: " + effectName);
+        if (duration <= 0) throw new IllegalArgumentException("duration must be positive");
+        if (amplifier < 0) throw new IllegalArgumentException("amplifier must not be negative");
+
+        return new PotionConfig(effectType, duration, amplifier);
+    }
+
+    @Override
+    public boolean onHit(HitContext hit, YeetableDefinition definition, AbilityConfig abilityConfig,
+                         ProjectileManager manager) {
 
-        if (effectType != null) {
-            le.addPotionEffect(new PotionEffect(effectType, duration, amplifier));
+        if (!(hit.getHitEntity() instanceof LivingEntity le)) {
+            return true; // Only affects entities
         }
 
+        PotionConfig config = (PotionConfig) abilityConfig;
+        le.addPotionEffect(new PotionEffect(config.effect(), config.duration(), config.amplifier()));
+
         return true;
     }
 }
@@ -289,15 +323,20 @@ class PotionAbility implements Ability {
  */
 class SwapAbility implements Ability {
     @Override
-    public boolean onHit(ProjectileHitEvent event, Snowball snowball, YeetableDefinition definition,
-                         ConfigurationSection abilityConfig, ProjectileManager manager) {
+    public AbilityConfig parseConfig(ConfigurationSection section) {
+        return null;
+    }
+
+    @Override
+    public boolean onHit(HitContext hit, YeetableDefinition definition, AbilityConfig abilityConfig,
+                         ProjectileManager manager) {
 
         // Only swap on entity hit
-        if (!(event.getHitEntity() instanceof LivingEntity hitEntity)) {
+        if (!(hit.getHitEntity() instanceof LivingEntity hitEntity)) {
             return true; // Block hit - do nothing, destroy projectile
         }
 
-        if (!(snowball.getShooter() instanceof Player shooter)) {
+        if (!(hit.getShooter() instanceof Player shooter)) {
             return true;
         }
 
@@ -322,8 +361,7 @@ class SwapAbility implements Ability {
         }
 
         // Cancel event to prevent vanilla snowball knockback, then remove projectile manually
-        event.setCancelled(true);
-        snowball.remove();
+        hit.cancel();
 
         return true;
     }
@@ -340,8 +378,17 @@ class GrappleAbility implements Ability {
     private record GrappleState(Arrow arrow, Chicken leashAnchor, BukkitTask task, int itemSlot) {}
 
     @Override
-    public boolean onHit(ProjectileHitEvent event, Snowball snowball, YeetableDefinition definition,
-                         ConfigurationSection abilityConfig, ProjectileManager manager) {
+    public AbilityConfig parseConfig(ConfigurationSection section) {
+        int despawnTicks = section.getInt("despawn-ticks", 100);
+        double pullStrength = section.getDouble("pull-strength", 1.2);
+        if (despawnTicks <= 0) throw new IllegalArgumentException("despawn-ticks must be positive");
+        if (pullStrength < 0) throw new IllegalArgumentException("pull-strength must not be negative");
+        return new GrappleConfig(despawnTicks, pullStrength);
+    }
+
+    @Override
+    public boolean onHit(HitContext hit, YeetableDefinition definition, AbilityConfig abilityConfig,
+                         ProjectileManager manager) {
         // Not used - grapple uses arrows, handled via onArrowHit
         return true;
     }
@@ -350,7 +397,7 @@ class GrappleAbility implements Ability {
      * Called when a grapple arrow hits something.
      */
     public static void onArrowHit(ProjectileHitEvent event, Arrow arrow,
-                                   ConfigurationSection abilityConfig) {
+                                   GrappleConfig config) {
         if (!(arrow.getShooter() instanceof Player player)) {
             return;
         }
@@ -378,18 +425,12 @@ class GrappleAbility implements Ability {
         }
 
         // Calculate pull velocity (minimal vertical boost)
-        double pullStrength = abilityConfig != null
-            ? abilityConfig.getDouble("pull-strength", 1.2) : 1.2;
-
-        Vector toHook = hitLoc.toVector().subtract(player.getLocation().toVector());
-        double distance = toHook.length();
-
-        Vector pullVelocity = toHook.normalize()
-            .multiply(Math.min(pullStrength * Math.sqrt(distance), 3.0));
-        // Only slight vertical adjustment to clear obstacles
-        pullVelocity.setY(Math.max(pullVelocity.getY(), 0.1));
+        Location playerLoc = player.getLocation();
+        double[] pull = new double[3];
+        ProjectileMath.grapplePull(hitLoc.getX() - playerLoc.getX(), hitLoc.getY() - playerLoc.getY(),
+            hitLoc.getZ() - playerLoc.getZ(), config.pullStrength(), pull);
 
-        player.setVelocity(pullVelocity);
+        player.setVelocity(new Vector(pull[0], pull[1], pull[2]));
 
         // Cleanup after applying velocity
         cleanup(player.getUniqueId(), player);
@@ -400,13 +441,12 @@ class GrappleAbility implements Ability {
      * Called when grapple arrow is launched - spawns lead anchor and starts tracking.
      */
     public static void onLaunch(Player player, Arrow arrow,
-                                 ConfigurationSection abilityConfig,
+                                 GrappleConfig config,
                                  JavaPlugin plugin) {
         // Cancel any existing grapple
         cleanup(player.getUniqueId(), player);
 
-        int despawnTicks = abilityConfig != null
-            ? abilityConfig.getInt("despawn-ticks", 100) : 100;
+        int despawnTicks = config.despawnTicks();
 
         // Store item slot for recharging later
         int itemSlot = player.getInventory().getHeldItemSlot();
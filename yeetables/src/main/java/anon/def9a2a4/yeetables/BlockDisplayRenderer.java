@@ -6,16 +6,22 @@ import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.BlockDisplay;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.ItemDisplay;
+import org.bukkit.entity.Player;
 import org.bukkit.entity.Snowball;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.util.Vector;
 import org.joml.Matrix4f;
+import org.joml.Matrix4fc;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -33,7 +39,28 @@ enum RotationMode {
 interface ProjectileRenderer {
     void spawn();
     void remove();
-    int getId();
+
+    /**
+     * The projectile this renderer follows; its entity ID keys the renderer in {@link RendererRegistry}.
+     */
+    Entity getCarrier();
+}
+
+/**
+ * Renderer driven by the shared {@link RendererTicker}.
+ */
+interface TickedRenderer extends ProjectileRenderer {
+    /**
+     * Apply the rotation computed by the ticker for this tick.
+     */
+    void applyRotation(Matrix4fc rotation);
+
+    /**
+     * Recompute which players see which level of detail. Called on a coarse interval.
+     */
+    default void updateViewers() {}
+
+    boolean isRemoved();
 }
 
 /**
@@ -46,26 +73,61 @@ class SimpleItemRenderer implements ProjectileRenderer {
 
     @Override public void spawn() {}
     @Override public void remove() {}
-    @Override public int getId() { return -1; }
+    @Override public Entity getCarrier() { return null; }
 }
 
 /**
- * Registry for tracking active renderers.
+ * Registry for tracking active renderers, keyed by carrier entity ID.
+ * Entity IDs are never reused while the server runs, so a hit always finds its own projectile's renderer.
  */
 class RendererRegistry {
     private static final Map<Integer, ProjectileRenderer> ACTIVE = new ConcurrentHashMap<>();
+    private static long swept;
 
     public static void register(ProjectileRenderer renderer) {
-        ACTIVE.put(renderer.getId(), renderer);
+        ACTIVE.put(renderer.getCarrier().getEntityId(), renderer);
+    }
+
+    /**
+     * Drop a renderer that removed itself. Only removes this exact renderer.
+     */
+    public static void unregister(ProjectileRenderer renderer) {
+        ACTIVE.remove(renderer.getCarrier().getEntityId(), renderer);
     }
 
-    public static void remove(int id) {
-        ProjectileRenderer r = ACTIVE.remove(id);
+    /**
+     * Remove the renderer following this carrier, if any.
+     */
+    public static void remove(int carrierId) {
+        ProjectileRenderer r = ACTIVE.remove(carrierId);
         if (r != null) r.remove();
     }
 
-    public static ProjectileRenderer get(int id) {
-        return ACTIVE.get(id);
+    public static ProjectileRenderer get(int carrierId) {
+        return ACTIVE.get(carrierId);
+    }
+
+    public static int size() {
+        return ACTIVE.size();
+    }
+
+    /**
+     * Total renderers reclaimed by {@link #sweep()} because their carrier was gone.
+     */
+    public static long swept() {
+        return swept;
+    }
+
+    /**
+     * Reclaim renderers whose carrier no longer exists, in case one was missed by the hit and tick paths.
+     */
+    public static void sweep() {
+        for (ProjectileRenderer r : ACTIVE.values()) {
+            if (!r.getCarrier().isValid()) {
+                swept++;
+                r.remove();
+            }
+        }
     }
 }
 
@@ -73,60 +135,59 @@ class RendererRegistry {
  * Renders a projectile using BlockDisplay entities.
  * Spawns display entities that follow and rotate with the snowball carrier.
  */
-public class BlockDisplayRenderer implements ProjectileRenderer {
-    private static int NEXT_ID = 1;
+public class BlockDisplayRenderer implements TickedRenderer {
+    private static final BlockData AIR = Bukkit.createBlockData(Material.AIR);
 
     private static class PartInstance {
         final BlockDisplay entity;
-        final Matrix4f base;
+        final Matrix4fc base;
 
-        PartInstance(BlockDisplay entity, Matrix4f base) {
+        PartInstance(BlockDisplay entity, Matrix4fc base) {
             this.entity = entity;
             this.base = base;
         }
     }
 
+    // Level of detail bands, see LodConfig
+    private static final int NEAR = 0;
+    private static final int MID = 1;
+    private static final int FAR = 2;
+
     private final JavaPlugin plugin;
+    private final RendererTicker ticker;
+    private final DisplayPool pool;
     private final Snowball carrier;
-    private final int id;
-    private final double gravityMultiplier;
     private final BlockDisplayRender config;
     private final List<PartInstance> parts = new ArrayList<>();
-    private Vector lastDir = new Vector(0, 0, 1);
 
-    // For SPIN_RANDOM mode
-    private Vector spinAxis;
-    private float spinAngle = 0f;
-    private static final float SPIN_SPEED = 0.3f; // radians per tick
+    // LOD only: single-entity stand-in for mid-range viewers, flat item for far ones (shown by default),
+    // and each viewer's current band
+    private ItemDisplay standIn;
+    private ItemDisplay farView;
+    private final Map<UUID, Integer> viewerBands = new HashMap<>();
+
+    // Scratch for the per-tick transform, and the rotation the parts currently show (spawned unrotated)
+    private final Matrix4f world = new Matrix4f();
+    private final Matrix4f lastRotation = new Matrix4f();
 
     private BlockDisplay parent;
-    private BukkitRunnable task;
-    private int life = 20 * 10; // 10 seconds max safety
+    private boolean removed;
 
-    public BlockDisplayRenderer(JavaPlugin plugin, Snowball carrier, double gravityMultiplier, BlockDisplayRender config) {
+    public BlockDisplayRenderer(JavaPlugin plugin, RendererTicker ticker, DisplayPool pool, Snowball carrier,
+                                BlockDisplayRender config) {
         this.plugin = plugin;
+        this.ticker = ticker;
+        this.pool = pool;
         this.carrier = carrier;
-        this.id = NEXT_ID++;
-        this.gravityMultiplier = gravityMultiplier;
         this.config = config;
-
-        // Initialize random spin axis if needed
-        if (config.rotationMode() == RotationMode.SPIN_RANDOM) {
-            Random rand = new Random();
-            spinAxis = new Vector(
-                rand.nextDouble() - 0.5,
-                rand.nextDouble() - 0.5,
-                rand.nextDouble() - 0.5
-            ).normalize();
-        }
     }
 
     @Override
-    public int getId() {
-        return id;
+    public Entity getCarrier() {
+        return carrier;
     }
 
-    private static Matrix4f matrixFromRowMajor(final float[] a) {
+    static Matrix4f matrixFromRowMajor(final float[] a) {
         // NBT/config stores row-major: [r00 r01 r02 r03, r10 r11 r12 r13, ...]
         // JOML constructor takes column-major, so we transpose
         return new Matrix4f(
@@ -137,76 +198,83 @@ public class BlockDisplayRenderer implements ProjectileRenderer {
         );
     }
 
-    private void applyRotation(Vector dir) {
-        Matrix4f R;
-
-        switch (config.rotationMode()) {
-            case SPIN_RANDOM -> {
-                // Rotate around random axis
-                spinAngle += SPIN_SPEED;
-                R = new Matrix4f().rotate(spinAngle,
-                    (float) spinAxis.getX(),
-                    (float) spinAxis.getY(),
-                    (float) spinAxis.getZ());
-            }
-            case NONE -> {
-                // No rotation - identity matrix
-                R = new Matrix4f();
-            }
-            default -> { // POINT_FORWARD
-                Vector v = (dir == null || dir.lengthSquared() < 1e-10) ? lastDir : dir.clone();
-                if (v.lengthSquared() < 1e-10) v = new Vector(0, 0, 1);
-                Vector n = v.normalize();
-                lastDir = n;
-
-                double nx = n.getX(), ny = n.getY(), nz = n.getZ();
-
-                // Calculate yaw and pitch from direction vector
-                float yawDeg = (float) Math.toDegrees(Math.atan2(-nx, nz));
-                float pitchDeg = (float) Math.toDegrees(-Math.atan2(ny, Math.sqrt(nx * nx + nz * nz)));
-
-                // Apply multipliers and offsets
-                float yawRad = (float) Math.toRadians(config.yawMultiplier() * yawDeg + config.yawOffset());
-                float pitchRad = (float) Math.toRadians(config.pitchMultiplier() * pitchDeg + config.pitchOffset());
-
-                // Build rotation matrix: yaw around Y, then pitch around X
-                R = new Matrix4f()
-                    .rotateY(yawRad)
-                    .rotateX(pitchRad);
-            }
-        }
+    /**
+     * Client interpolation time for a rotation mode, matching how often new transforms are sent.
+     */
+    static int interpolationTicks(RotationMode mode, RotationUpdates updates, SpinKeyframes spin) {
+        return switch (mode) {
+            case POINT_FORWARD -> updates.intervalTicks();
+            case SPIN_RANDOM -> spin.intervalTicks();
+            case NONE -> 1;
+        };
+    }
+
+    @Override
+    public void applyRotation(Matrix4fc rotation) {
+        // Every part already shows this rotation - skip the metadata writes
+        if (lastRotation.equals(rotation, 0f)) return;
+        lastRotation.set(rotation);
 
-        // Apply rotation to each part
         for (PartInstance pi : parts) {
-            Matrix4f world = new Matrix4f(R).mul(pi.base);
-            pi.entity.setTransformationMatrix(world);
+            // setTransformationMatrix copies, so one scratch matrix serves every part
+            pi.entity.setTransformationMatrix(world.set(rotation).mul(pi.base));
+            // Restart client interpolation from the current pose
+            pi.entity.setInterpolationDelay(0);
+        }
+        if (standIn != null) {
+            standIn.setTransformationMatrix(world.set(rotation).mul(config.lod().standInTransform()));
+            standIn.setInterpolationDelay(0);
         }
     }
 
     @Override
     public void spawn() {
         RendererRegistry.register(this);
-        World w = carrier.getWorld();
         Location base = carrier.getLocation();
 
-        // Spawn invisible parent display for position/rotation control
-        parent = w.spawn(base, BlockDisplay.class, d -> {
-            d.setBlock(Bukkit.createBlockData(Material.AIR));
-            d.setInterpolationDuration(1);
-            d.setTeleportDuration(1);
-            d.setViewRange(64f);
-            d.setPersistent(false);
-            d.setGravity(false);
-        });
+        DisplayPool.Assembly pooled = pool.acquire(base, config);
+        if (pooled != null) {
+            parent = (BlockDisplay) pooled.root();
+            List<ModelPart> modelParts = config.parts();
+            for (int i = 0; i < modelParts.size(); i++) {
+                BlockDisplay child = (BlockDisplay) pooled.parts().get(i);
+                // Back to the unrotated pose the ticker expects
+                child.setTransformationMatrix(world.set(modelParts.get(i).baseTransform()));
+                parts.add(new PartInstance(child, modelParts.get(i).baseTransform()));
+            }
+            if (config.lod() != null) {
+                standIn = (ItemDisplay) pooled.parts().get(modelParts.size());
+                standIn.setTransformationMatrix(world.set(config.lod().standInTransform()));
+                farView = (ItemDisplay) pooled.parts().get(modelParts.size() + 1);
+                // Parts stay hidden until updateViewers shows them per player; the far view until it hides it
+                parent.setVisibleByDefault(true);
+                farView.setVisibleByDefault(true);
+            } else {
+                pooled.setVisible(true);
+            }
+        } else {
+            spawnModel(carrier.getWorld(), base);
+        }
+
+        // Mount parent to snowball in the same tick
+        carrier.addPassenger(parent);
+
+        ticker.add(this, carrier, config.rotationMode(), config.rotationUpdates(), config.spin(),
+            config.yawMultiplier(), config.yawOffset(), config.pitchMultiplier(), config.pitchOffset());
+    }
 
-        // Spawn each model part as a child
+    private void spawnModel(World w, Location base) {
+        // Spawn each model part first, so the parent can take them as passengers before it is added
+        int interpolation = interpolationTicks(config.rotationMode(), config.rotationUpdates(), config.spin());
+        LodConfig lod = config.lod();
         for (ModelPart part : config.parts()) {
-            BlockData blockData = Bukkit.createBlockData(part.material());
-            Matrix4f baseM = matrixFromRowMajor(part.transformation());
+            Matrix4f baseM = new Matrix4f(part.baseTransform());
 
             BlockDisplay child = w.spawn(base, BlockDisplay.class, c -> {
-                c.setBlock(blockData);
-                c.setInterpolationDuration(1);
+                // With LOD, parts are only shown to near viewers
+                c.setVisibleByDefault(lod == null);
+                c.setBlock(part.blockData());
+                c.setInterpolationDuration(interpolation);
                 c.setTeleportDuration(1);
                 c.setViewRange(64f);
                 c.setPersistent(false);
@@ -214,74 +282,136 @@ public class BlockDisplayRenderer implements ProjectileRenderer {
                 c.setTransformationMatrix(baseM);
             });
 
-            parts.add(new PartInstance(child, new Matrix4f(baseM)));
+            parts.add(new PartInstance(child, part.baseTransform()));
         }
 
-        // Wait 1 tick for entities to spawn, then assemble and start ticking
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                // Mount children to parent
-                for (PartInstance pi : parts) {
-                    parent.addPassenger(pi.entity);
-                }
-                // Mount parent to snowball
-                carrier.addPassenger(parent);
-
-                // Set initial facing
-                Vector initDir = carrier.getVelocity();
-                if (initDir == null || initDir.lengthSquared() < 1e-10) {
-                    initDir = carrier.getLocation().getDirection();
-                }
-                applyRotation(initDir);
-
-                // Per-tick update
-                task = new BukkitRunnable() {
-                    @Override
-                    public void run() {
-                        if (life-- <= 0 || carrier.isDead() || !carrier.isValid()) {
-                            remove();
-                            cancel();
-                            return;
-                        }
-
-                        Vector vel = carrier.getVelocity();
-
-                        // Adjust gravity
-                        double normalGravity = -0.04;
-                        double adjustment = normalGravity * (gravityMultiplier - 1.0);
-                        vel.setY(vel.getY() + adjustment);
-                        carrier.setVelocity(vel);
-
-                        // Update rotation
-                        applyRotation(vel);
-                    }
-                };
-                task.runTaskTimer(plugin, 0L, 1L);
+        if (lod != null) {
+            Matrix4f standInM = new Matrix4f(lod.standInTransform());
+            standIn = w.spawn(base, ItemDisplay.class, d -> {
+                d.setVisibleByDefault(false);
+                d.setItemStack(lod.standInItem());
+                d.setInterpolationDuration(interpolation);
+                d.setTeleportDuration(1);
+                d.setViewRange(64f);
+                d.setPersistent(false);
+                d.setGravity(false);
+                d.setTransformationMatrix(standInM);
+            });
+
+            // Looks like a plain thrown item: camera-facing, never rotated with the model
+            farView = w.spawn(base, ItemDisplay.class, d -> {
+                d.setItemStack(lod.farItem());
+                d.setItemDisplayTransform(ItemDisplay.ItemDisplayTransform.GROUND);
+                d.setBillboard(Display.Billboard.CENTER);
+                d.setTeleportDuration(1);
+                d.setViewRange(64f);
+                d.setPersistent(false);
+                d.setGravity(false);
+            });
+        }
+
+        // Spawn invisible parent display for position/rotation control, assembled in the spawn consumer
+        parent = w.spawn(base, BlockDisplay.class, d -> {
+            d.setBlock(AIR);
+            d.setInterpolationDuration(1);
+            d.setTeleportDuration(1);
+            d.setViewRange(64f);
+            d.setPersistent(false);
+            d.setGravity(false);
+            for (PartInstance pi : parts) {
+                d.addPassenger(pi.entity);
+            }
+            if (standIn != null) {
+                d.addPassenger(standIn);
+                d.addPassenger(farView);
             }
-        }.runTaskLater(plugin, 1L);
+        });
+    }
+
+    @Override
+    public void updateViewers() {
+        LodConfig lod = config.lod();
+        if (lod == null || parent == null) return;
+
+        Location at = carrier.getLocation();
+        Set<Player> tracking = carrier.getTrackedBy();
+
+        // Players who stopped tracking the projectile lose whatever they were shown
+        Iterator<Map.Entry<UUID, Integer>> it = viewerBands.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<UUID, Integer> entry = it.next();
+            Player player = Bukkit.getPlayer(entry.getKey());
+            if (player == null || !tracking.contains(player)) {
+                if (player != null) setBand(player, entry.getValue(), FAR);
+                it.remove();
+            }
+        }
+
+        for (Player player : tracking) {
+            double distSq = player.getLocation().distanceSquared(at);
+            int band = distSq <= lod.nearSquared() ? NEAR : distSq <= lod.midSquared() ? MID : FAR;
+            Integer previous = viewerBands.put(player.getUniqueId(), band);
+            setBand(player, previous != null ? previous : FAR, band);
+        }
+    }
+
+    private void setBand(Player player, int from, int to) {
+        if (from == to) return;
+
+        if (from == NEAR) {
+            for (PartInstance pi : parts) player.hideEntity(plugin, pi.entity);
+        } else if (from == MID) {
+            player.hideEntity(plugin, standIn);
+        } else {
+            player.hideEntity(plugin, farView);
+        }
+
+        if (to == NEAR) {
+            for (PartInstance pi : parts) player.showEntity(plugin, pi.entity);
+        } else if (to == MID) {
+            player.showEntity(plugin, standIn);
+        } else {
+            player.showEntity(plugin, farView);
+        }
+    }
+
+    @Override
+    public boolean isRemoved() {
+        return removed;
     }
 
     @Override
     public void remove() {
-        RendererRegistry.remove(id);
+        RendererRegistry.unregister(this);
         removeNow();
     }
 
     private void removeNow() {
-        if (task != null) {
-            task.cancel();
-            task = null;
-        }
+        removed = true;
         if (parent != null) {
-            org.bukkit.entity.Entity vehicle = parent.getVehicle();
+            Entity vehicle = parent.getVehicle();
             if (vehicle != null) {
                 vehicle.removePassenger(parent);
             }
-            for (org.bukkit.entity.Entity passenger : parent.getPassengers()) {
-                passenger.remove();
+            // Undo per-player visibility, so the parked model is hidden from everyone
+            for (Map.Entry<UUID, Integer> entry : viewerBands.entrySet()) {
+                Player player = Bukkit.getPlayer(entry.getKey());
+                if (player != null) setBand(player, entry.getValue(), FAR);
             }
-            parent.remove();
+            viewerBands.clear();
+
+            List<Display> children = new ArrayList<>(parts.size() + 2);
+            for (PartInstance pi : parts) {
+                children.add(pi.entity);
+            }
+            if (standIn != null) {
+                children.add(standIn);
+                children.add(farView);
+                standIn = null;
+                farView = null;
+            }
+            // Parked with its parts still mounted, ready for the next throw
+            pool.release(parent.getWorld(), config, new DisplayPool.Assembly(parent, children));
             parent = null;
         }
     }
@@ -291,89 +421,40 @@ public class BlockDisplayRenderer implements ProjectileRenderer {
  * Renders a projectile using an ItemDisplay entity.
  * Supports custom items with full metadata (e.g., player heads with textures).
  */
-class ItemDisplayRenderer implements ProjectileRenderer {
-    private static int NEXT_ID = 1000; // Offset from BlockDisplayRenderer IDs
-
-    private final JavaPlugin plugin;
+class ItemDisplayRenderer implements TickedRenderer {
+    private final RendererTicker ticker;
+    private final DisplayPool pool;
     private final Snowball carrier;
-    private final int id;
-    private final double gravityMultiplier;
     private final ItemDisplayRender config;
 
-    // For SPIN_RANDOM mode
-    private Vector spinAxis;
-    private float spinAngle = 0f;
-    private static final float SPIN_SPEED = 0.3f;
-
     private org.bukkit.entity.ItemDisplay display;
-    private BukkitRunnable task;
-    private int life = 20 * 10;
-    private Matrix4f baseTransform;
-    private Vector lastDir = new Vector(0, 0, 1);
+    private Matrix4fc baseTransform;
+    private boolean removed;
 
-    public ItemDisplayRenderer(JavaPlugin plugin, Snowball carrier, double gravityMultiplier, ItemDisplayRender config) {
-        this.plugin = plugin;
+    // Scratch for the per-tick transform, and the rotation the display currently shows (spawned unrotated)
+    private final Matrix4f world = new Matrix4f();
+    private final Matrix4f lastRotation = new Matrix4f();
+
+    public ItemDisplayRenderer(RendererTicker ticker, DisplayPool pool, Snowball carrier,
+                               ItemDisplayRender config) {
+        this.ticker = ticker;
+        this.pool = pool;
         this.carrier = carrier;
-        this.id = NEXT_ID++;
-        this.gravityMultiplier = gravityMultiplier;
         this.config = config;
-
-        if (config.rotationMode() == RotationMode.SPIN_RANDOM) {
-            Random rand = new Random();
-            spinAxis = new Vector(
-                rand.nextDouble() - 0.5,
-                rand.nextDouble() - 0.5,
-                rand.nextDouble() - 0.5
-            ).normalize();
-        }
     }
 
     @Override
-    public int getId() {
-        return id;
+    public Entity getCarrier() {
+        return carrier;
     }
 
-    private static Matrix4f matrixFromRowMajor(final float[] a) {
-        return new Matrix4f(
-            a[0],  a[4],  a[8],  a[12],
-            a[1],  a[5],  a[9],  a[13],
-            a[2],  a[6],  a[10], a[14],
-            a[3],  a[7],  a[11], a[15]
-        );
-    }
-
-    private void applyRotation(Vector dir) {
-        Matrix4f R;
-
-        switch (config.rotationMode()) {
-            case SPIN_RANDOM -> {
-                spinAngle += SPIN_SPEED;
-                R = new Matrix4f().rotate(spinAngle,
-                    (float) spinAxis.getX(),
-                    (float) spinAxis.getY(),
-                    (float) spinAxis.getZ());
-            }
-            case NONE -> {
-                R = new Matrix4f();
-            }
-            default -> { // POINT_FORWARD
-                Vector v = (dir == null || dir.lengthSquared() < 1e-10) ? lastDir : dir.clone();
-                if (v.lengthSquared() < 1e-10) v = new Vector(0, 0, 1);
-                Vector n = v.normalize();
-                lastDir = n;
-
-                double nx = n.getX(), ny = n.getY(), nz = n.getZ();
-                float yawDeg = (float) Math.toDegrees(Math.atan2(-nx, nz));
-                float pitchDeg = (float) Math.toDegrees(-Math.atan2(ny, Math.sqrt(nx * nx + nz * nz)));
-
-                R = new Matrix4f()
-                    .rotateY((float) Math.toRadians(yawDeg))
-                    .rotateX((float) Math.toRadians(pitchDeg));
-            }
-        }
+    @Override
+    public void applyRotation(Matrix4fc rotation) {
+        if (lastRotation.equals(rotation, 0f)) return;
+        lastRotation.set(rotation);
 
-        Matrix4f world = new Matrix4f(R).mul(baseTransform);
-        display.setTransformationMatrix(world);
+        display.setTransformationMatrix(world.set(rotation).mul(baseTransform));
+        display.setInterpolationDelay(0);
     }
 
     @Override
@@ -381,70 +462,51 @@ class ItemDisplayRenderer implements ProjectileRenderer {
         RendererRegistry.register(this);
         World w = carrier.getWorld();
         Location loc = carrier.getLocation();
-        baseTransform = matrixFromRowMajor(config.transformation());
+        baseTransform = config.baseTransform();
+
+        DisplayPool.Assembly pooled = pool.acquire(loc, config);
+        if (pooled != null) {
+            display = (org.bukkit.entity.ItemDisplay) pooled.root();
+            display.setTransformationMatrix(world.set(baseTransform));
+            pooled.setVisible(true);
+        } else {
+            int interpolation = BlockDisplayRenderer.interpolationTicks(config.rotationMode(), config.rotationUpdates(), config.spin());
+            display = w.spawn(loc, org.bukkit.entity.ItemDisplay.class, d -> {
+                d.setItemStack(config.item());
+                d.setInterpolationDuration(interpolation);
+                d.setTeleportDuration(1);
+                d.setViewRange(64f);
+                d.setPersistent(false);
+                d.setGravity(false);
+                d.setTransformationMatrix(new Matrix4f(baseTransform));
+            });
+        }
+        carrier.addPassenger(display);
 
-        display = w.spawn(loc, org.bukkit.entity.ItemDisplay.class, d -> {
-            d.setItemStack(config.item());
-            d.setInterpolationDuration(1);
-            d.setTeleportDuration(1);
-            d.setViewRange(64f);
-            d.setPersistent(false);
-            d.setGravity(false);
-            d.setTransformationMatrix(baseTransform);
-        });
+        // Item displays face the raw flight direction - no multipliers or offsets
+        ticker.add(this, carrier, config.rotationMode(), config.rotationUpdates(),
+            config.spin(), 1f, 0f, 1f, 0f);
+    }
 
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                carrier.addPassenger(display);
-
-                Vector initDir = carrier.getVelocity();
-                if (initDir == null || initDir.lengthSquared() < 1e-10) {
-                    initDir = carrier.getLocation().getDirection();
-                }
-                applyRotation(initDir);
-
-                task = new BukkitRunnable() {
-                    @Override
-                    public void run() {
-                        if (life-- <= 0 || carrier.isDead() || !carrier.isValid()) {
-                            remove();
-                            cancel();
-                            return;
-                        }
-
-                        Vector vel = carrier.getVelocity();
-
-                        double normalGravity = -0.04;
-                        double adjustment = normalGravity * (gravityMultiplier - 1.0);
-                        vel.setY(vel.getY() + adjustment);
-                        carrier.setVelocity(vel);
-
-                        applyRotation(vel);
-                    }
-                };
-                task.runTaskTimer(plugin, 0L, 1L);
-            }
-        }.runTaskLater(plugin, 1L);
+    @Override
+    public boolean isRemoved() {
+        return removed;
     }
 
     @Override
     public void remove() {
-        RendererRegistry.remove(id);
+        RendererRegistry.unregister(this);
         removeNow();
     }
 
     private void removeNow() {
-        if (task != null) {
-            task.cancel();
-            task = null;
-        }
+        removed = true;
         if (display != null) {
-            org.bukkit.entity.Entity vehicle = display.getVehicle();
+            Entity vehicle = display.getVehicle();
             if (vehicle != null) {
                 vehicle.removePassenger(display);
             }
-            display.remove();
+            pool.release(display.getWorld(), config, new DisplayPool.Assembly(display, List.of()));
             display = null;
         }
     }
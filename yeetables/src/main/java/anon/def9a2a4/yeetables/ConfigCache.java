@@ -0,0 +1,213 @@
+package anon.def9a2a4.yeetables;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Binary cache of the parsed YAML config trees, so startup can skip YAML parsing when no file changed.
+ *
+ * The cache is keyed by a SHA-256 of the raw file contents (including the jar defaults), and holds
+ * the plain map/list/scalar tree of each file. It is read through a memory-mapped buffer.
+ */
+class ConfigCache {
+    private static final int MAGIC = 0x59544243; // "YTBC"
+    private static final int FORMAT_VERSION = 1;
+
+    // Value tags
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INT = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte FALSE = 5;
+    private static final byte TRUE = 6;
+    private static final byte LIST = 7;
+    private static final byte MAP = 8;
+
+    private final Path file;
+    private final Logger logger;
+
+    ConfigCache(Path file, Logger logger) {
+        this.file = file;
+        this.logger = logger;
+    }
+
+    /**
+     * Hash the raw contents of every input that the cached trees were parsed from.
+     */
+    static byte[] hash(List<byte[]> inputs) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (byte[] input : inputs) {
+                // Length prefix keeps ("ab", "c") and ("a", "bc") distinct
+                digest.update(ByteBuffer.allocate(4).putInt(input.length).array());
+                digest.update(input);
+            }
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Read the cached trees, or null if there is no cache for this hash.
+     */
+    Map<String, Map<String, Object>> read(byte[] hash) {
+        if (!Files.isRegularFile(file)) return null;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buf.getInt() != MAGIC || buf.getInt() != FORMAT_VERSION) return null;
+            byte[] storedHash = new byte[buf.getInt()];
+            buf.get(storedHash);
+            if (!Arrays.equals(storedHash, hash)) return null;
+
+            int count = buf.getInt();
+            Map<String, Map<String, Object>> trees = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                String name = readString(buf);
+                trees.put(name, readMap(buf));
+            }
+            return trees;
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Ignoring unreadable config cache: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Write the trees for this hash, replacing any existing cache. Failures are logged and ignored.
+     */
+    void write(byte[] hash, Map<String, Map<String, Object>> trees) {
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+
+            try (OutputStream os = Files.newOutputStream(temp);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(hash.length);
+                out.write(hash);
+                out.writeInt(trees.size());
+                for (Map.Entry<String, Map<String, Object>> entry : trees.entrySet()) {
+                    writeString(out, entry.getKey());
+                    writeValue(out, entry.getValue());
+                }
+            }
+
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warning("Failed to write config cache: " + e.getMessage());
+        }
+    }
+
+    // ========================================================================
+    // Encoding
+    // ========================================================================
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String s) {
+            out.writeByte(STRING);
+            writeString(out, s);
+        } else if (value instanceof Integer i) {
+            out.writeByte(INT);
+            out.writeInt(i);
+        } else if (value instanceof Long l) {
+            out.writeByte(LONG);
+            out.writeLong(l);
+        } else if (value instanceof Double d) {
+            out.writeByte(DOUBLE);
+            out.writeDouble(d);
+        } else if (value instanceof Boolean b) {
+            out.writeByte(b ? TRUE : FALSE);
+        } else if (value instanceof List<?> list) {
+            out.writeByte(LIST);
+            out.writeInt(list.size());
+            for (Object element : list) {
+                writeValue(out, element);
+            }
+        } else if (value instanceof Map<?, ?> map) {
+            out.writeByte(MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeString(out, String.valueOf(entry.getKey()));
+                writeValue(out, entry.getValue());
+            }
+        } else {
+            // Anything else (dates, big integers, ...) can't round-trip; callers fall back to YAML
+            throw new IllegalArgumentException("Unsupported config value type: " + value.getClass().getSimpleName());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static Object readValue(ByteBuffer buf) {
+        byte tag = buf.get();
+        return switch (tag) {
+            case NULL -> null;
+            case STRING -> readString(buf);
+            case INT -> buf.getInt();
+            case LONG -> buf.getLong();
+            case DOUBLE -> buf.getDouble();
+            case FALSE -> Boolean.FALSE;
+            case TRUE -> Boolean.TRUE;
+            case LIST -> {
+                int size = buf.getInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(buf));
+                }
+                yield list;
+            }
+            case MAP -> readMapBody(buf);
+            default -> throw new IllegalArgumentException("Bad value tag " + tag);
+        };
+    }
+
+    private static Map<String, Object> readMap(ByteBuffer buf) {
+        byte tag = buf.get();
+        if (tag != MAP) throw new IllegalArgumentException("Expected map, got tag " + tag);
+        return readMapBody(buf);
+    }
+
+    private static Map<String, Object> readMapBody(ByteBuffer buf) {
+        int size = buf.getInt();
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            String key = readString(buf);
+            map.put(key, readValue(buf));
+        }
+        return map;
+    }
+
+    private static String readString(ByteBuffer buf) {
+        byte[] bytes = new byte[buf.getInt()];
+        buf.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
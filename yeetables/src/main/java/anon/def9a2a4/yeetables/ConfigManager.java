@@ -6,120 +6,406 @@ import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
 import org.bukkit.Sound;
+import org.bukkit.block.data.BlockData;
 import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.MemoryConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.ShapedRecipe;
 import org.bukkit.inventory.meta.CrossbowMeta;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.inventory.meta.SkullMeta;
+import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
+import org.joml.Matrix4f;
+import org.joml.Matrix4fc;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 public class ConfigManager {
+    private static final List<String> CONFIG_FILES = List.of("config.yml", "items.yml", "yeetables.yml");
+    private static final String DEFAULTS_SUFFIX = "#defaults";
+
     private final JavaPlugin plugin;
     private final Logger logger;
-    private final List<YeetableDefinition> yeetables = new ArrayList<>();
-    private final Map<String, CustomItemDefinition> customItems = new HashMap<>();
-
-    private YamlConfiguration itemsConfig;
-    private YamlConfiguration yeetablesConfig;
-
-    // Global config values loaded once on reload
-    private boolean hideDisplayProjectiles;
-    private List<EntityExemption> swapExemptions = new ArrayList<>();
+    private final ConfigCache configCache;
+    // Identity stamp written to every created custom item, so matching survives renames
+    private final NamespacedKey keyItemId;
+    // Head profiles by texture, shared by every custom item with that skin. Main thread only,
+    // pruned to the published config's textures
+    private final Map<String, PlayerProfile> headProfiles = new HashMap<>();
+
+    // Bumped on every load; starts at a random value so projectiles persisted across
+    // restarts can't alias a fresh load's ordinals
+    private final AtomicInteger generation = new AtomicInteger(ThreadLocalRandom.current().nextInt());
+    private final AtomicBoolean reloading = new AtomicBoolean(false);
+    // Completion callback of a reload requested while another was running; main thread only
+    private Runnable pendingReload;
+
+    // Replaced as a whole on the main thread; never modified after publishing
+    private volatile ConfigSnapshot snapshot;
 
     public ConfigManager(JavaPlugin plugin) {
         this.plugin = plugin;
         this.logger = plugin.getLogger();
+        this.keyItemId = new NamespacedKey(plugin, "item_id");
+        this.configCache = new ConfigCache(plugin.getDataFolder().toPath().resolve("cache").resolve("config.bin"), logger);
     }
 
+    /**
+     * Load the config synchronously. Used on enable, before anything can read it.
+     */
     public void load() {
-        yeetables.clear();
-        customItems.clear();
+        publish(parse());
+    }
 
-        // Load main config (global settings)
-        plugin.saveDefaultConfig();
-        plugin.reloadConfig();
+    /**
+     * Parse the config files on a worker thread, then publish the result on the main thread.
+     *
+     * @param onComplete Run on the main thread once the new config is live
+     * @return false if a reload is already in progress
+     */
+    public boolean reloadAsync(Runnable onComplete) {
+        if (!reloading.compareAndSet(false, true)) return false;
 
-        // Load global config values
-        hideDisplayProjectiles = plugin.getConfig().getBoolean("hide-display-projectiles", true);
-        swapExemptions = parseSwapExemptions(plugin.getConfig().getMapList("swap-exempt-entities"));
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            ConfigSnapshot next;
+            try {
+                next = parse();
+            } catch (Exception e) {
+                logger.severe("Failed to reload config: " + e.getMessage());
+                e.printStackTrace();
+                reloading.set(false);
+                Bukkit.getScheduler().runTask(plugin, this::runPendingReload);
+                return;
+            }
+
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                publish(next);
+                reloading.set(false);
+                onComplete.run();
+                runPendingReload();
+            });
+        });
+        return true;
+    }
+
+    /**
+     * Like {@link #reloadAsync}, but a request arriving while a reload is running isn't dropped:
+     * one more reload runs once the current one is done, however many requests came in meanwhile.
+     * Main thread only.
+     */
+    public void requestReload(Runnable onComplete) {
+        if (!reloadAsync(onComplete)) {
+            pendingReload = onComplete;
+        }
+    }
+
+    private void runPendingReload() {
+        Runnable pending = pendingReload;
+        if (pending == null) return;
+        pendingReload = null;
+        requestReload(pending);
+    }
+
+    /**
+     * Read and parse all config files into a new snapshot. Touches no live server state and creates
+     * no Bukkit objects - item stacks, block data and profiles are only described as {@link Prototype}s,
+     * built by {@link #publish} - so it is safe to call off the main thread.
+     */
+    private ConfigSnapshot parse() {
+        // Entries whose YAML is unchanged since this snapshot are reused instead of reparsed
+        ConfigSnapshot previous = snapshot;
+
+        // Read all files up front so an unchanged set can be served from the binary cache
+        Map<String, YamlConfiguration> configs = loadConfigFiles();
+
+        // Load main config (global settings)
+        YamlConfiguration mainConfig = configs.get("config.yml");
+        boolean hideDisplayProjectiles = mainConfig.getBoolean("hide-display-projectiles", true);
+        boolean autoReload = mainConfig.getBoolean("auto-reload", false);
+        int cooldownGraceTicks = Math.max(0, mainConfig.getInt("cooldown-grace-period", 0)) * 20;
+        int displayPoolSize = Math.max(0, mainConfig.getInt("display-pool.size", 16));
+        int displayPoolIdleTicks = Math.max(0, mainConfig.getInt("display-pool.idle-timeout", 30)) * 20;
+        int displayBudgetPerWorld = Math.max(0, mainConfig.getInt("display-budget.per-world", 256));
+        int displayBudgetPerRegion = Math.max(0, mainConfig.getInt("display-budget.per-region", 64));
+        List<EntityExemption> swapExemptions = parseSwapExemptions(mainConfig.getMapList("swap-exempt-entities"));
 
         // Load items.yml
-        itemsConfig = loadYamlFile("items.yml");
+        YamlConfiguration itemsConfig = configs.get("items.yml");
 
         // Load yeetables.yml
-        yeetablesConfig = loadYamlFile("yeetables.yml");
+        YamlConfiguration yeetablesConfig = configs.get("yeetables.yml");
 
         // Load custom items first (they may be referenced by yeetables)
-        loadCustomItems();
+        Map<String, Map<String, Object>> itemSources = new HashMap<>();
+        Map<String, CustomItemDefinition> customItems = loadCustomItems(itemsConfig, previous, itemSources);
+
+        // Yeetables resolve item-id references and matcher links against custom items,
+        // so any custom item change means every yeetable is reparsed
+        boolean itemsChanged = previous == null || !sameDefinitions(previous.customItems(), customItems);
 
         // Load yeetables
-        loadYeetables();
+        Map<String, Map<?, ?>> yeetableSources = new HashMap<>();
+        List<YeetableDefinition> yeetables = loadYeetables(yeetablesConfig, customItems,
+            itemsChanged ? null : previous, yeetableSources);
+
+        int reused = 0;
+        if (previous != null) {
+            for (CustomItemDefinition item : customItems.values()) {
+                if (previous.customItems().get(item.id()) == item) reused++;
+            }
+            for (YeetableDefinition def : yeetables) {
+                if (previous.byOrdinal(def.ordinal()) == def) reused++;
+            }
+        }
+        logger.info("Loaded " + customItems.size() + " custom items and " + yeetables.size() + " yeetables"
+            + (previous != null ? " (" + reused + " unchanged)" : ""));
 
-        logger.info("Loaded " + customItems.size() + " custom items and " + yeetables.size() + " yeetables");
+        return index(generation.incrementAndGet(), yeetables, customItems, itemSources, yeetableSources,
+            hideDisplayProjectiles, autoReload, cooldownGraceTicks, displayPoolSize, displayPoolIdleTicks,
+            displayBudgetPerWorld, displayBudgetPerRegion, swapExemptions);
     }
 
-    private YamlConfiguration loadYamlFile(String filename) {
-        File file = new File(plugin.getDataFolder(), filename);
+    private static boolean sameDefinitions(Map<String, CustomItemDefinition> a, Map<String, CustomItemDefinition> b) {
+        if (a.size() != b.size()) return false;
+        for (Map.Entry<String, CustomItemDefinition> entry : b.entrySet()) {
+            if (a.get(entry.getKey()) != entry.getValue()) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Convert a config section to plain nested maps, so unchanged entries compare equal across loads.
+     */
+    private static Map<String, Object> toPlainMap(ConfigurationSection section) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : section.getValues(false).entrySet()) {
+            Object value = entry.getValue();
+            map.put(entry.getKey(), value instanceof ConfigurationSection child ? toPlainMap(child) : value);
+        }
+        return map;
+    }
+
+    /**
+     * Make a parsed snapshot live, on the main thread. Builds the snapshot's prototypes first, then
+     * registers recipes, the only server state derived from config.
+     */
+    private void publish(ConfigSnapshot next) {
+        ConfigSnapshot previous = snapshot;
+
+        buildPrototypes(next);
+        Set<String> textures = new HashSet<>();
+        for (CustomItemDefinition item : next.customItems().values()) {
+            if (item.texture() != null) textures.add(item.texture());
+        }
+        headProfiles.keySet().retainAll(textures);
+
+        // Every recipe change resends the recipe book to all players, so changes are made
+        // without resending and clients are synced once at the end
+        boolean recipesChanged = false;
+
+        // Drop recipes of items that were removed or changed
+        if (previous != null) {
+            for (CustomItemDefinition item : previous.customItems().values()) {
+                if (item.recipe() != null && next.customItems().get(item.id()) != item) {
+                    Bukkit.removeRecipe(recipeKey(item.id()), false);
+                    recipesChanged = true;
+                }
+            }
+        }
 
-        // Save default if doesn't exist
-        if (!file.exists()) {
-            plugin.saveResource(filename, false);
+        // Register recipes of new or changed items
+        for (CustomItemDefinition item : next.customItems().values()) {
+            if (item.recipe() == null) continue;
+            if (previous != null && previous.customItems().get(item.id()) == item) continue;
+            try {
+                registerRecipe(item);
+                recipesChanged = true;
+            } catch (Exception e) {
+                logger.warning("Failed to register recipe for custom item '" + item.id() + "': " + e.getMessage());
+            }
+        }
+
+        if (recipesChanged) {
+            Bukkit.updateRecipes();
+        }
+
+        snapshot = next;
+    }
+
+    /**
+     * Build every prototype a snapshot describes. Definitions reused from the previous snapshot
+     * are already built and skipped.
+     */
+    private static void buildPrototypes(ConfigSnapshot next) {
+        // Custom items first - item-display renders copy their stacks
+        for (CustomItemDefinition item : next.customItems().values()) {
+            item.prototype().build();
         }
 
-        YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
+        for (YeetableDefinition def : next.yeetables()) {
+            def.particlePrototype().build();
+            if (def.properties().dropPrototype() != null) {
+                def.properties().dropPrototype().build();
+            }
 
-        // Load defaults from jar
-        InputStream defaultStream = plugin.getResource(filename);
-        if (defaultStream != null) {
-            YamlConfiguration defaultConfig = YamlConfiguration.loadConfiguration(new InputStreamReader(defaultStream));
-            config.setDefaults(defaultConfig);
+            RenderConfig renderConfig = def.renderConfig();
+            if (renderConfig instanceof SimpleRender simple) {
+                simple.itemPrototype().build();
+            } else if (renderConfig instanceof ItemDisplayRender itemDisplay) {
+                itemDisplay.itemPrototype().build();
+            } else if (renderConfig instanceof BlockDisplayRender blockDisplay) {
+                for (ModelPart part : blockDisplay.parts()) {
+                    part.blockDataPrototype().build();
+                }
+                if (blockDisplay.lod() != null) {
+                    blockDisplay.lod().standInPrototype().build();
+                    blockDisplay.lod().farPrototype().build();
+                }
+            }
         }
+    }
 
+    /**
+     * Load every config file with its jar defaults. When neither the files nor the jar defaults
+     * changed since the last parse, the trees come from the binary cache and no YAML is parsed.
+     */
+    private Map<String, YamlConfiguration> loadConfigFiles() {
+        Map<String, byte[]> contents = new LinkedHashMap<>();
+        for (String filename : CONFIG_FILES) {
+            File file = new File(plugin.getDataFolder(), filename);
+
+            // Save default if doesn't exist
+            if (!file.exists()) {
+                plugin.saveResource(filename, false);
+            }
+
+            contents.put(filename, readBytes(file.toPath()));
+            contents.put(filename + DEFAULTS_SUFFIX, readDefaults(filename));
+        }
+
+        byte[] hash = ConfigCache.hash(new ArrayList<>(contents.values()));
+        Map<String, Map<String, Object>> trees = configCache.read(hash);
+
+        if (trees == null) {
+            trees = new LinkedHashMap<>();
+            boolean cacheable = true;
+            for (Map.Entry<String, byte[]> entry : contents.entrySet()) {
+                YamlConfiguration parsed = new YamlConfiguration();
+                try {
+                    parsed.loadFromString(new String(entry.getValue(), StandardCharsets.UTF_8));
+                } catch (InvalidConfigurationException e) {
+                    logger.severe("Cannot load " + entry.getKey() + ": " + e.getMessage());
+                    cacheable = false; // Don't cache a broken file as empty
+                }
+                trees.put(entry.getKey(), toPlainMap(parsed));
+            }
+            if (cacheable) {
+                configCache.write(hash, trees);
+            }
+        }
+
+        Map<String, YamlConfiguration> configs = new HashMap<>();
+        for (String filename : CONFIG_FILES) {
+            YamlConfiguration config = fromPlainMap(trees.get(filename));
+            config.setDefaults(fromPlainMap(trees.get(filename + DEFAULTS_SUFFIX)));
+            configs.put(filename, config);
+        }
+        return configs;
+    }
+
+    private byte[] readBytes(Path path) {
+        try {
+            return Files.readAllBytes(path);
+        } catch (IOException e) {
+            logger.severe("Cannot read " + path.getFileName() + ": " + e.getMessage());
+            return new byte[0];
+        }
+    }
+
+    private byte[] readDefaults(String filename) {
+        try (InputStream defaultStream = plugin.getResource(filename)) {
+            return defaultStream != null ? defaultStream.readAllBytes() : new byte[0];
+        } catch (IOException e) {
+            return new byte[0];
+        }
+    }
+
+    /**
+     * Rebuild a configuration from a plain tree, nesting maps as sections the way the YAML loader does.
+     */
+    private static YamlConfiguration fromPlainMap(Map<String, Object> tree) {
+        YamlConfiguration config = new YamlConfiguration();
+        if (tree == null) return config;
+        for (Map.Entry<String, Object> entry : tree.entrySet()) {
+            if (entry.getValue() instanceof Map<?, ?> map) {
+                config.createSection(entry.getKey(), map);
+            } else {
+                config.set(entry.getKey(), entry.getValue());
+            }
+        }
         return config;
     }
 
-    private void loadCustomItems() {
+    private Map<String, CustomItemDefinition> loadCustomItems(YamlConfiguration itemsConfig, ConfigSnapshot previous,
+                                                              Map<String, Map<String, Object>> sources) {
+        Map<String, CustomItemDefinition> customItems = new LinkedHashMap<>();
         ConfigurationSection section = itemsConfig.getConfigurationSection("items");
-        if (section == null) return;
+        if (section == null) return customItems;
 
         for (String id : section.getKeys(false)) {
             ConfigurationSection itemSection = section.getConfigurationSection(id);
             if (itemSection == null) continue;
 
-            try {
-                CustomItemDefinition item = parseCustomItem(id, itemSection);
-                customItems.put(id, item);
+            Map<String, Object> source = toPlainMap(itemSection);
+            sources.put(id, source);
 
-                // Register recipe if present
-                if (item.recipe() != null) {
-                    registerRecipe(id, item);
-                }
+            CustomItemDefinition unchanged = previous != null ? previous.customItems().get(id) : null;
+            if (unchanged != null && source.equals(previous.itemSources().get(id))) {
+                customItems.put(id, unchanged);
+                continue;
+            }
+
+            try {
+                customItems.put(id, parseCustomItem(id, itemSection));
             } catch (Exception e) {
                 logger.warning("Failed to load custom item '" + id + "': " + e.getMessage());
                 e.printStackTrace();
             }
         }
+        return customItems;
     }
 
     private CustomItemDefinition parseCustomItem(String id, ConfigurationSection section) {
-        Material material = Material.valueOf(section.getString("material", "STONE").toUpperCase());
+        Material material = Prototype.requireItem(Material.valueOf(section.getString("material", "STONE").toUpperCase()));
         String displayName = section.getString("display-name");
         List<String> lore = section.getStringList("lore");
         String texture = section.getString("texture"); // Base64 texture for player heads
@@ -131,7 +417,8 @@ public class ConfigManager {
             recipe = parseRecipe(recipeSection);
         }
 
-        return new CustomItemDefinition(id, material, displayName, lore, texture, recipe, charged);
+        return new CustomItemDefinition(id, material, displayName, lore, texture, recipe, charged, keyItemId,
+            this::headProfile);
     }
 
     private RecipeDefinition parseRecipe(ConfigurationSection section) {
@@ -151,12 +438,30 @@ public class ConfigManager {
         return new RecipeDefinition(shape.toArray(new String[0]), ingredients);
     }
 
-    private void registerRecipe(String id, CustomItemDefinition item) {
+    /**
+     * Get the head profile for a texture. The UUID is derived from the texture, so every stack
+     * with the same skin has the same owner - clients cache the skin once and the stacks merge.
+     * Only called while building prototypes, on the main thread.
+     */
+    private PlayerProfile headProfile(String texture) {
+        return headProfiles.computeIfAbsent(texture, t -> {
+            UUID uuid = UUID.nameUUIDFromBytes(("yeetables:" + t).getBytes(StandardCharsets.UTF_8));
+            PlayerProfile profile = Bukkit.createProfile(uuid);
+            profile.setProperty(new ProfileProperty("textures", t));
+            return profile;
+        });
+    }
+
+    private NamespacedKey recipeKey(String itemId) {
+        return new NamespacedKey(plugin, "custom_" + itemId);
+    }
+
+    private void registerRecipe(CustomItemDefinition item) {
         ItemStack result = item.createItemStack();
-        NamespacedKey key = new NamespacedKey(plugin, "custom_" + id);
+        NamespacedKey key = recipeKey(item.id());
 
         // Remove existing recipe if reloading
-        Bukkit.removeRecipe(key);
+        Bukkit.removeRecipe(key, false);
 
         ShapedRecipe recipe = new ShapedRecipe(key, result);
         recipe.shape(item.recipe().shape());
@@ -165,25 +470,92 @@ public class ConfigManager {
             recipe.setIngredient(entry.getKey(), entry.getValue());
         }
 
-        Bukkit.addRecipe(recipe);
+        Bukkit.addRecipe(recipe, false);
     }
 
-    private void loadYeetables() {
+    /**
+     * @param previous Snapshot to reuse unchanged definitions from, or null to parse everything
+     */
+    private List<YeetableDefinition> loadYeetables(YamlConfiguration yeetablesConfig,
+                                                   Map<String, CustomItemDefinition> customItems,
+                                                   ConfigSnapshot previous, Map<String, Map<?, ?>> sources) {
+        List<YeetableDefinition> yeetables = new ArrayList<>();
         List<Map<?, ?>> list = yeetablesConfig.getMapList("yeetables");
 
         for (Map<?, ?> entry : list) {
+            if (entry.get("id") instanceof String id) {
+                sources.putIfAbsent(id, entry);
+
+                // Ordinals are baked into definitions, so only reuse one that keeps its position
+                YeetableDefinition unchanged = previous != null ? previous.yeetablesById().get(id) : null;
+                if (unchanged != null && unchanged.ordinal() == yeetables.size()
+                        && entry.equals(previous.yeetableSources().get(id))) {
+                    yeetables.add(unchanged);
+                    continue;
+                }
+            }
+
             try {
-                YeetableDefinition def = parseYeetable(entry);
+                YeetableDefinition def = parseYeetable(entry, yeetables.size(), customItems);
                 yeetables.add(def);
             } catch (Exception e) {
                 logger.warning("Failed to load yeetable: " + e.getMessage());
                 e.printStackTrace();
             }
         }
+        return yeetables;
+    }
+
+    private ConfigSnapshot index(int generation, List<YeetableDefinition> yeetables,
+                                 Map<String, CustomItemDefinition> customItems,
+                                 Map<String, Map<String, Object>> itemSources,
+                                 Map<String, Map<?, ?>> yeetableSources,
+                                 boolean hideDisplayProjectiles, boolean autoReload, int cooldownGraceTicks,
+                                 int displayPoolSize, int displayPoolIdleTicks,
+                                 int displayBudgetPerWorld, int displayBudgetPerRegion,
+                                 List<EntityExemption> swapExemptions) {
+        Map<String, YeetableDefinition> byId = new HashMap<>();
+        Map<Material, List<YeetableDefinition>> byMaterial = new EnumMap<>(Material.class);
+
+        for (YeetableDefinition def : yeetables) {
+            if (byId.putIfAbsent(def.id(), def) != null) {
+                logger.warning("Duplicate yeetable id '" + def.id() + "', only the first definition is used for hits");
+            }
+            if (!def.enabled()) continue;
+            byMaterial.computeIfAbsent(def.itemMatcher().material(), k -> new ArrayList<>()).add(def);
+        }
+
+        // Stable sort keeps definition order for equal specificity, so the first defined still wins ties
+        Comparator<YeetableDefinition> bySpecificity =
+            Comparator.comparingInt((YeetableDefinition def) -> def.itemMatcher().specificity()).reversed();
+        for (Map.Entry<Material, List<YeetableDefinition>> entry : byMaterial.entrySet()) {
+            entry.getValue().sort(bySpecificity);
+            entry.setValue(List.copyOf(entry.getValue()));
+        }
+
+        return new ConfigSnapshot(
+            generation,
+            List.copyOf(yeetables),
+            Collections.unmodifiableMap(customItems),
+            Collections.unmodifiableMap(byMaterial),
+            Collections.unmodifiableMap(byId),
+            yeetables.toArray(new YeetableDefinition[0]),
+            Collections.unmodifiableMap(itemSources),
+            Collections.unmodifiableMap(yeetableSources),
+            hideDisplayProjectiles,
+            autoReload,
+            cooldownGraceTicks,
+            displayPoolSize,
+            displayPoolIdleTicks,
+            displayBudgetPerWorld,
+            displayBudgetPerRegion,
+            List.copyOf(swapExemptions)
+        );
     }
 
     @SuppressWarnings("unchecked")
-    private YeetableDefinition parseYeetable(Map<?, ?> entry) {
+    private YeetableDefinition parseYeetable(Map<?, ?> entry, int ordinal,
+                                             Map<String, CustomItemDefinition> customItems) {
         String id = (String) entry.get("id");
         if (id == null) throw new IllegalArgumentException("Yeetable missing 'id'");
 
@@ -192,7 +564,7 @@ public class ConfigManager {
 
         // Parse item matcher
         Map<?, ?> itemMap = (Map<?, ?>) entry.get("item");
-        ItemMatcher itemMatcher = parseItemMatcher(itemMap);
+        ItemMatcher itemMatcher = parseItemMatcher(itemMap, customItems);
 
         // Parse properties
         Map<?, ?> propsMap = (Map<?, ?>) entry.get("properties");
@@ -200,7 +572,7 @@ public class ConfigManager {
 
         // Parse render config
         Map<?, ?> renderMap = (Map<?, ?>) entry.get("render");
-        RenderConfig renderConfig = parseRenderConfig(renderMap);
+        RenderConfig renderConfig = parseRenderConfig(renderMap, customItems);
 
         // Parse consumption behavior
         Object consumptionObj = entry.get("consumption");
@@ -211,24 +583,37 @@ public class ConfigManager {
         Map<?, ?> particlesMap = (Map<?, ?>) entry.get("impact-particles");
         ImpactParticleConfig impactParticles = parseImpactParticles(particlesMap);
 
-        // Parse ability (optional)
+        // Parse ability (optional) - resolved and validated here so hits do no lookups
         String ability = (String) entry.get("ability");
-        ConfigurationSection abilityConfig = null;
-        if (entry.get("ability-config") instanceof Map<?, ?> abilityMap) {
-            abilityConfig = mapToConfigSection(abilityMap);
+        Ability abilityHandler = null;
+        AbilityConfig abilityConfig = null;
+        if (ability != null) {
+            abilityHandler = AbilityRegistry.get(ability);
+            if (abilityHandler == null) throw new IllegalArgumentException("Unknown ability '" + ability + "'");
+
+            ConfigurationSection abilitySection = entry.get("ability-config") instanceof Map<?, ?> abilityMap
+                ? mapToConfigSection(abilityMap) : new MemoryConfiguration();
+            try {
+                abilityConfig = abilityHandler.parseConfig(abilitySection);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid ability-config for '" + id + "': " + e.getMessage(), e);
+            }
         }
 
         // Parse projectile type (optional, defaults to snowball)
         String projectileType = (String) entry.get("projectile-type");
+        Object visualObj = entry.get("simulated-visual");
+        SimulatedVisual simulatedVisual = visualObj instanceof String v
+            ? SimulatedVisual.valueOf(v.toUpperCase()) : SimulatedVisual.DISPLAY;
 
         // Parse sounds (optional)
         Map<?, ?> soundsMap = (Map<?, ?>) entry.get("sounds");
         SoundConfig soundConfig = parseSoundConfig(soundsMap);
 
-        return new YeetableDefinition(id, enabled, itemMatcher, properties, renderConfig, consumption, impactParticles, ability, abilityConfig, projectileType, soundConfig);
+        return new YeetableDefinition(id, ordinal, enabled, itemMatcher, properties, renderConfig, consumption, impactParticles, particleItem(renderConfig), ability, abilityHandler, abilityConfig, projectileType, simulatedVisual, soundConfig);
     }
 
-    private ItemMatcher parseItemMatcher(Map<?, ?> map) {
+    private ItemMatcher parseItemMatcher(Map<?, ?> map, Map<String, CustomItemDefinition> customItems) {
         if (map == null) throw new IllegalArgumentException("Yeetable missing 'item' section");
 
         Material material = Material.valueOf(((String) map.get("material")).toUpperCase());
@@ -242,7 +627,26 @@ public class ConfigManager {
             }
         }
 
-        return new ItemMatcher(material, displayName, lore);
+        // Items created by /yeetables give carry their custom item id, so link the matcher to it.
+        // Without an explicit item-id, pick the custom item this matcher already describes.
+        String itemId = (String) map.get("item-id");
+        if (itemId != null) {
+            CustomItemDefinition customItem = customItems.get(itemId);
+            if (customItem == null) {
+                logger.warning("Unknown item-id '" + itemId + "' in yeetable item matcher");
+            } else if (customItem.material() != material) {
+                throw new IllegalArgumentException("item-id '" + itemId + "' is not a " + material);
+            }
+        } else {
+            for (CustomItemDefinition customItem : customItems.values()) {
+                if (customItem.material() == material && ItemMatcher.describes(displayName, lore, customItem)) {
+                    itemId = customItem.id();
+                    break;
+                }
+            }
+        }
+
+        return new ItemMatcher(material, displayName, lore, itemId, keyItemId);
     }
 
     private ProjectileProperties parseProperties(Map<?, ?> map) {
@@ -252,24 +656,30 @@ public class ConfigManager {
         double accuracyOffset = getDouble(map, "accuracy-offset", 0.0);
         long cooldown = getLong(map, "cooldown", 500);
         double gravityMultiplier = getDouble(map, "gravity-multiplier", 1.0);
+        // Fraction of velocity lost per tick on top of vanilla drag, clamped so it can't reverse direction
+        double drag = Math.max(0.0, Math.min(1.0, getDouble(map, "drag", 0.0)));
+        // Max speed in blocks per tick; 0 means uncapped
+        double terminalVelocity = Math.max(0.0, getDouble(map, "terminal-velocity", 0.0));
+        // Reach of hitscan yeetables, in blocks
+        double range = Math.max(0.0, getDouble(map, "range", 48.0));
         double damage = getDouble(map, "damage", 0.0);
         double knockbackStrength = getDouble(map, "knockback-strength", 0.0);
         double knockbackVertical = getDouble(map, "knockback-vertical", 0.0);
 
-        Material dropOnBreak = null;
+        Prototype<ItemStack> dropOnBreak = null;
         Object dropObj = map.get("drop-on-break");
         if (dropObj instanceof String dropStr && !dropStr.equalsIgnoreCase("null") && !dropStr.equalsIgnoreCase("none")) {
             try {
-                dropOnBreak = Material.valueOf(dropStr.toUpperCase());
+                dropOnBreak = Prototype.item(Material.valueOf(dropStr.toUpperCase()));
             } catch (IllegalArgumentException ignored) {}
         }
 
-        return new ProjectileProperties(speed, accuracyOffset, cooldown, gravityMultiplier, damage, knockbackStrength, knockbackVertical, dropOnBreak);
+        return new ProjectileProperties(speed, accuracyOffset, cooldown, gravityMultiplier, drag, terminalVelocity, range, damage, knockbackStrength, knockbackVertical, dropOnBreak);
     }
 
     @SuppressWarnings("unchecked")
-    private RenderConfig parseRenderConfig(Map<?, ?> map) {
-        if (map == null) return new SimpleRender(Material.STONE);
+    private RenderConfig parseRenderConfig(Map<?, ?> map, Map<String, CustomItemDefinition> customItems) {
+        if (map == null) return new SimpleRender(Material.STONE, Prototype.item(Material.STONE));
 
         Object typeObj = map.get("type");
         String type = (typeObj instanceof String s) ? s : "simple";
@@ -282,6 +692,10 @@ public class ConfigManager {
                 rotationMode = RotationMode.valueOf(rotModeStr.toUpperCase().replace("-", "_"));
             } catch (IllegalArgumentException ignored) {}
         }
+        RotationUpdates rotationUpdates = parseRotationUpdates(map);
+        SpinKeyframes spin = rotationMode == RotationMode.SPIN_RANDOM
+            ? SpinKeyframes.create(getInt(map, "spin-interval", SpinKeyframes.DEFAULT_INTERVAL))
+            : null;
 
         if ("block-display".equals(type)) {
             float yawOffset = getFloat(map, "yaw-offset", 0f);
@@ -299,18 +713,25 @@ public class ConfigManager {
 
                         if (blockName != null && transformList != null && transformList.size() == 16) {
                             Material blockMaterial = Material.valueOf(blockName.toUpperCase());
+                            if (!blockMaterial.isBlock()) {
+                                throw new IllegalArgumentException(blockMaterial + " is not a block");
+                            }
                             float[] matrix = new float[16];
                             for (int i = 0; i < 16; i++) {
                                 Object val = transformList.get(i);
                                 matrix[i] = (val instanceof Number n) ? n.floatValue() : 0f;
                             }
-                            parts.add(new ModelPart(blockMaterial, matrix));
+                            parts.add(new ModelPart(blockMaterial, matrix,
+                                new Prototype<>(blockMaterial::createBlockData), BlockDisplayRenderer.matrixFromRowMajor(matrix)));
                         }
                     }
                 }
             }
 
-            return new BlockDisplayRender(parts, yawOffset, pitchOffset, yawMultiplier, pitchMultiplier, rotationMode);
+            LodConfig lod = map.get("lod") instanceof Map<?, ?> lodMap ? parseLod(lodMap, parts) : null;
+
+            return new BlockDisplayRender(parts, yawOffset, pitchOffset, yawMultiplier, pitchMultiplier, rotationMode,
+                rotationUpdates, spin, lod);
         } else if ("item-display".equals(type)) {
             // Parse transformation matrix
             float[] matrix = new float[]{1,0,0,0, 0,1,0,0, 0,0,1,0, 0,0,0,1}; // identity default
@@ -323,31 +744,68 @@ public class ConfigManager {
             }
 
             // Get item from item-id reference or inline material
-            ItemStack item;
+            Prototype<ItemStack> item;
             String itemId = (String) map.get("item-id");
             if (itemId != null) {
                 CustomItemDefinition customItem = customItems.get(itemId);
                 if (customItem != null) {
-                    item = customItem.createItemStack();
+                    item = new Prototype<>(customItem::createItemStack);
                 } else {
                     logger.warning("Unknown item-id '" + itemId + "' in item-display render");
-                    item = new ItemStack(Material.STONE);
+                    item = Prototype.item(Material.STONE);
                 }
             } else {
                 Object matObj = map.get("material");
                 Material material = Material.valueOf(((matObj instanceof String s) ? s : "STONE").toUpperCase());
-                item = new ItemStack(material);
+                item = Prototype.item(material);
             }
 
-            return new ItemDisplayRender(item, matrix, rotationMode);
+            return new ItemDisplayRender(item, matrix, BlockDisplayRenderer.matrixFromRowMajor(matrix), rotationMode,
+                rotationUpdates, spin);
         } else {
             // Simple render
             Object matObj = map.get("material");
             Material material = Material.valueOf(((matObj instanceof String s) ? s : "STONE").toUpperCase());
-            return new SimpleRender(material);
+            return new SimpleRender(material, Prototype.item(material));
         }
     }
 
+    private LodConfig parseLod(Map<?, ?> map, List<ModelPart> parts) {
+        double near = Math.max(0, getDouble(map, "near", 24.0));
+        double mid = Math.max(near, getDouble(map, "mid", 48.0));
+
+        // Stand-in defaults to the first part's block, like the impact particles; far viewers always see that item
+        Material firstItem = parts.isEmpty() || !parts.get(0).material().isItem() ? Material.STONE : parts.get(0).material();
+        Material standIn = firstItem;
+        if (map.get("stand-in") instanceof String standInName) {
+            standIn = Material.valueOf(standInName.toUpperCase());
+        }
+        float scale = getFloat(map, "stand-in-scale", 0.5f);
+
+        return new LodConfig(near, mid, Prototype.item(standIn), new Matrix4f().scaling(scale), Prototype.item(firstItem));
+    }
+
+    private RotationUpdates parseRotationUpdates(Map<?, ?> map) {
+        float step = Math.max(0f, getFloat(map, "rotation-step", RotationUpdates.DEFAULT.stepDegrees()));
+        float threshold = Math.max(0f, getFloat(map, "rotation-threshold", RotationUpdates.DEFAULT.thresholdDegrees()));
+        int interval = Math.max(1, getInt(map, "rotation-interval", RotationUpdates.DEFAULT.intervalTicks()));
+        return new RotationUpdates(step, threshold, interval);
+    }
+
+    private static Prototype<ItemStack> particleItem(RenderConfig renderConfig) {
+        // Determine particle material from render config
+        Material particleMaterial = Material.STONE;
+        if (renderConfig instanceof SimpleRender simple) {
+            particleMaterial = simple.material();
+        } else if (renderConfig instanceof BlockDisplayRender blockDisplay) {
+            // Blocks without an item form (fire, water) keep the stone default
+            if (!blockDisplay.parts().isEmpty() && blockDisplay.parts().get(0).material().isItem()) {
+                particleMaterial = blockDisplay.parts().get(0).material();
+            }
+        }
+        return Prototype.item(particleMaterial);
+    }
+
     private ImpactParticleConfig parseImpactParticles(Map<?, ?> map) {
         if (map == null) return new ImpactParticleConfig(15, 0.25, 0.1);
 
@@ -392,7 +850,7 @@ public class ConfigManager {
     }
 
     private ConfigurationSection mapToConfigSection(Map<?, ?> map) {
-        org.bukkit.configuration.MemoryConfiguration temp = new org.bukkit.configuration.MemoryConfiguration();
+        MemoryConfiguration temp = new MemoryConfiguration();
         for (Map.Entry<?, ?> e : map.entrySet()) {
             temp.set(e.getKey().toString(), e.getValue());
         }
@@ -420,64 +878,73 @@ public class ConfigManager {
         return (val instanceof Number n) ? n.longValue() : def;
     }
 
-    // Public accessors
+    // Public accessors (main thread)
+
+    public ConfigSnapshot getSnapshot() {
+        return snapshot;
+    }
 
     public List<YeetableDefinition> getYeetables() {
-        return yeetables;
+        return snapshot.yeetables();
     }
 
     public YeetableDefinition getYeetableById(String id) {
-        for (YeetableDefinition def : yeetables) {
-            if (def.id().equals(id)) return def;
-        }
-        return null;
+        return snapshot.yeetablesById().get(id);
+    }
+
+    /**
+     * Look up a yeetable by its load ordinal.
+     * Returns null if the ordinal was issued by a different generation (i.e. before a reload).
+     */
+    public YeetableDefinition getYeetableByOrdinal(int generation, int ordinal) {
+        ConfigSnapshot current = snapshot;
+        if (generation != current.generation()) return null;
+        return current.byOrdinal(ordinal);
+    }
+
+    public int getGeneration() {
+        return snapshot.generation();
     }
 
     public YeetableDefinition findMatchingYeetable(ItemStack item) {
-        if (item == null || item.getType().isAir()) return null;
+        if (item == null) return null;
 
-        YeetableDefinition bestMatch = null;
-        int bestSpecificity = -1;
+        // Most clicks are not throwables - reject them without touching item meta
+        List<YeetableDefinition> candidates = snapshot.yeetablesByMaterial().get(item.getType());
+        if (candidates == null) return null;
 
-        for (YeetableDefinition def : yeetables) {
-            if (!def.enabled()) continue;
-            if (def.itemMatcher().matches(item)) {
-                int specificity = def.itemMatcher().specificity();
-                if (specificity > bestSpecificity) {
-                    bestSpecificity = specificity;
-                    bestMatch = def;
-                }
-            }
+        // Candidates are sorted by specificity, so the first match is the best one
+        for (YeetableDefinition def : candidates) {
+            if (def.itemMatcher().matches(item)) return def;
         }
-
-        return bestMatch;
+        return null;
     }
 
     public CustomItemDefinition getCustomItem(String id) {
-        return customItems.get(id);
+        return snapshot.customItems().get(id);
     }
 
     public List<YeetableDefinition> getEnabledYeetables() {
-        return yeetables.stream().filter(YeetableDefinition::enabled).toList();
+        return snapshot.yeetables().stream().filter(YeetableDefinition::enabled).toList();
     }
 
     public Map<String, CustomItemDefinition> getCustomItems() {
-        return customItems;
+        return snapshot.customItems();
     }
 
     public boolean shouldHideDisplayProjectiles() {
-        return hideDisplayProjectiles;
+        return snapshot.hideDisplayProjectiles();
     }
 
     public List<EntityExemption> getSwapExemptions() {
-        return swapExemptions;
+        return snapshot.swapExemptions();
     }
 
     /**
      * Check if an entity is exempt from swap based on global exemption rules.
      */
     public boolean isSwapExempt(Entity entity) {
-        for (EntityExemption exemption : swapExemptions) {
+        for (EntityExemption exemption : snapshot.swapExemptions()) {
             if (exemption.isExempt(entity)) {
                 return true;
             }
@@ -540,19 +1007,70 @@ public class ConfigManager {
 // Data Records and Types
 // ============================================================================
 
+/**
+ * Everything parsed from one config load. Immutable once built, and published with a
+ * single reference swap, so readers never observe a half-loaded config.
+ */
+record ConfigSnapshot(
+    int generation,
+    List<YeetableDefinition> yeetables,
+    Map<String, CustomItemDefinition> customItems,
+    // Enabled yeetables grouped by item material, most specific matcher first
+    Map<Material, List<YeetableDefinition>> yeetablesByMaterial,
+    Map<String, YeetableDefinition> yeetablesById,
+    // Indexed by YeetableDefinition.ordinal()
+    YeetableDefinition[] yeetablesByOrdinal,
+    // Raw YAML each definition was parsed from, for detecting unchanged entries on reload
+    Map<String, Map<String, Object>> itemSources,
+    Map<String, Map<?, ?>> yeetableSources,
+    boolean hideDisplayProjectiles,
+    boolean autoReload,
+    // How long cooldowns are kept after a player quits, in server ticks
+    int cooldownGraceTicks,
+    // Idle display models kept per world and render config, and how long, in ticks
+    int displayPoolSize,
+    int displayPoolIdleTicks,
+    // Maximum active display renderers per world and per region, 0 for unlimited
+    int displayBudgetPerWorld,
+    int displayBudgetPerRegion,
+    List<EntityExemption> swapExemptions
+) {
+    public YeetableDefinition byOrdinal(int ordinal) {
+        if (ordinal < 0 || ordinal >= yeetablesByOrdinal.length) return null;
+        return yeetablesByOrdinal[ordinal];
+    }
+}
+
 record YeetableDefinition(
     String id,
+    int ordinal,
     boolean enabled,
     ItemMatcher itemMatcher,
     ProjectileProperties properties,
     RenderConfig renderConfig,
     ConsumptionBehavior consumption,
     ImpactParticleConfig impactParticles,
+    // Passed as particle data on impact
+    Prototype<ItemStack> particlePrototype,
     String ability,
-    ConfigurationSection abilityConfig,
+    Ability abilityHandler,
+    AbilityConfig abilityConfig,
     String projectileType,
+    SimulatedVisual simulatedVisual,
     SoundConfig soundConfig
-) {}
+) {
+    ItemStack particleItem() {
+        return particlePrototype.get();
+    }
+
+    boolean isSimulated() {
+        return "simulated".equals(projectileType);
+    }
+
+    boolean isHitscan() {
+        return "hitscan".equals(projectileType);
+    }
+}
 
 record CustomItemDefinition(
     String id,
@@ -561,20 +1079,44 @@ record CustomItemDefinition(
     List<String> lore,
     String texture,
     RecipeDefinition recipe,
-    boolean charged
+    boolean charged,
+    // Identity stamp written to every created item, so matching survives renames
+    NamespacedKey itemIdKey,
+    // Fully built stack, handed out as clones
+    Prototype<ItemStack> prototype
 ) {
+    CustomItemDefinition(String id, Material material, String displayName, List<String> lore,
+                         String texture, RecipeDefinition recipe, boolean charged, NamespacedKey itemIdKey,
+                         Function<String, PlayerProfile> headProfiles) {
+        this(id, material, displayName, lore, texture, recipe, charged, itemIdKey,
+            new Prototype<>(() -> buildPrototype(id, material, displayName, lore, texture, charged, itemIdKey,
+                headProfiles)));
+    }
+
+    /**
+     * Read the custom item id stamped on a stack, or null for unstamped (legacy) items.
+     */
+    static String readItemId(ItemStack item, NamespacedKey itemIdKey) {
+        return item.getPersistentDataContainer().get(itemIdKey, PersistentDataType.STRING);
+    }
+
     public ItemStack createItemStack() {
+        return prototype.get().clone();
+    }
+
+    private static ItemStack buildPrototype(String id, Material material, String displayName, List<String> lore,
+                                            String texture, boolean charged, NamespacedKey itemIdKey,
+                                            Function<String, PlayerProfile> headProfiles) {
         ItemStack stack = new ItemStack(material);
         ItemMeta meta = stack.getItemMeta();
 
         if (displayName != null) meta.setDisplayName(displayName);
         if (lore != null && !lore.isEmpty()) meta.setLore(lore);
+        meta.getPersistentDataContainer().set(itemIdKey, PersistentDataType.STRING, id);
 
         // Handle player head textures
         if (material == Material.PLAYER_HEAD && texture != null && meta instanceof SkullMeta skullMeta) {
-            PlayerProfile profile = Bukkit.createProfile(UUID.randomUUID());
-            profile.setProperty(new ProfileProperty("textures", texture));
-            skullMeta.setPlayerProfile(profile);
+            skullMeta.setPlayerProfile(headProfiles.apply(texture));
         }
 
         // Handle charged crossbows
@@ -595,11 +1137,19 @@ record RecipeDefinition(
 record ItemMatcher(
     Material material,
     String displayName,
-    List<String> lore
+    List<String> lore,
+    String itemId,
+    NamespacedKey itemIdKey
 ) {
     public boolean matches(ItemStack item) {
         if (item == null || item.getType() != material) return false;
 
+        // Stamped items are identified by their custom item id alone
+        if (itemId != null) {
+            String stampedId = CustomItemDefinition.readItemId(item, itemIdKey);
+            if (stampedId != null) return itemId.equals(stampedId);
+        }
+
         // If no name/lore required, just material match
         if (displayName == null && (lore == null || lore.isEmpty())) {
             return true;
@@ -627,8 +1177,21 @@ record ItemMatcher(
         return true;
     }
 
+    /**
+     * Check whether items created from a custom item definition satisfy the given name/lore requirements.
+     */
+    static boolean describes(String displayName, List<String> lore, CustomItemDefinition item) {
+        if (displayName == null && (lore == null || lore.isEmpty())) return false;
+        if (displayName != null && !displayName.equals(item.displayName())) return false;
+        if (lore != null && !lore.isEmpty()) {
+            if (item.lore() == null || !item.lore().containsAll(lore)) return false;
+        }
+        return true;
+    }
+
     public int specificity() {
         int score = 0;
+        if (itemId != null) score += 20;
         if (displayName != null) score += 10;
         if (lore != null && !lore.isEmpty()) score += 5;
         return score;
@@ -640,11 +1203,19 @@ record ProjectileProperties(
     double accuracyOffset,
     long cooldown,
     double gravityMultiplier,
+    double drag,
+    double terminalVelocity,
+    double range,
     double damage,
     double knockbackStrength,
     double knockbackVertical,
-    Material dropOnBreak
-) {}
+    // Dropped on impact (copied by the world); null for no drop
+    Prototype<ItemStack> dropPrototype
+) {
+    ItemStack dropOnBreak() {
+        return dropPrototype != null ? dropPrototype.get() : null;
+    }
+}
 
 record ImpactParticleConfig(
     int count,
@@ -665,10 +1236,25 @@ enum ConsumptionBehavior {
     NONE
 }
 
+// How a simulated (entity-less) projectile is shown in flight
+enum SimulatedVisual {
+    // One item display moved along the path
+    DISPLAY,
+    // An item particle trail, no entities at all
+    PARTICLES
+}
+
 // Sealed interface for render configuration
 sealed interface RenderConfig permits SimpleRender, BlockDisplayRender, ItemDisplayRender {}
 
-record SimpleRender(Material material) implements RenderConfig {}
+// Render records hold prototypes (item stacks, block data, base matrices) resolved once at load
+// and shared by every throw; they must never be modified.
+
+record SimpleRender(Material material, Prototype<ItemStack> itemPrototype) implements RenderConfig {
+    ItemStack item() {
+        return itemPrototype.get();
+    }
+}
 
 record BlockDisplayRender(
     List<ModelPart> parts,
@@ -676,19 +1262,172 @@ record BlockDisplayRender(
     float pitchOffset,
     float yawMultiplier,
     float pitchMultiplier,
-    RotationMode rotationMode
+    RotationMode rotationMode,
+    RotationUpdates rotationUpdates,
+    // Only for SPIN_RANDOM
+    SpinKeyframes spin,
+    // Null shows the full model to every viewer
+    LodConfig lod
 ) implements RenderConfig {}
 
+/**
+ * Per-viewer level of detail for block display models. Viewers within near blocks see the full model,
+ * within mid a single item display stand-in, and beyond that a flat, camera-facing item.
+ */
+record LodConfig(
+    double near,
+    double mid,
+    Prototype<ItemStack> standInPrototype,
+    Matrix4fc standInTransform,
+    Prototype<ItemStack> farPrototype
+) {
+    ItemStack standInItem() {
+        return standInPrototype.get();
+    }
+
+    ItemStack farItem() {
+        return farPrototype.get();
+    }
+
+    double nearSquared() {
+        return near * near;
+    }
+
+    double midSquared() {
+        return mid * mid;
+    }
+}
+
 record ItemDisplayRender(
-    ItemStack item,
+    Prototype<ItemStack> itemPrototype,
     float[] transformation,
-    RotationMode rotationMode
-) implements RenderConfig {}
+    Matrix4fc baseTransform,
+    RotationMode rotationMode,
+    RotationUpdates rotationUpdates,
+    // Only for SPIN_RANDOM
+    SpinKeyframes spin
+) implements RenderConfig {
+    ItemStack item() {
+        return itemPrototype.get();
+    }
+}
+
+/**
+ * How often a POINT_FORWARD display sends a new rotation. Yaw and pitch are rounded to stepDegrees,
+ * and a new transform is only sent once either moved by thresholdDegrees, at most every intervalTicks.
+ * The client interpolates over intervalTicks, so motion stays smooth between sends.
+ */
+record RotationUpdates(
+    float stepDegrees,
+    float thresholdDegrees,
+    int intervalTicks
+) {
+    static final RotationUpdates DEFAULT = new RotationUpdates(1f, 2f, 2);
+}
+
+/**
+ * Precomputed SPIN_RANDOM rotations. A spinning display is sent one keyframe every intervalTicks and
+ * the client interpolates between them, instead of receiving a new rotation every tick.
+ * frames[axis][k] is the rotation after k keyframes around that axis; each throw picks one axis.
+ */
+record SpinKeyframes(
+    int intervalTicks,
+    Matrix4fc[][] frames
+) {
+    static final int DEFAULT_INTERVAL = 4;
+    private static final float SPIN_SPEED = 0.3f; // radians per tick
+    private static final int AXES = 16;
+
+    static SpinKeyframes create(int intervalTicks) {
+        // Client interpolation takes the shortest path, so a keyframe must turn less than half a revolution
+        int interval = Math.max(1, Math.min(intervalTicks, (int) (Math.PI / SPIN_SPEED)));
+        // Whole number of keyframes per revolution, so the animation loops seamlessly
+        int frameCount = Math.max(3, Math.round((float) (2 * Math.PI / (SPIN_SPEED * interval))));
+        float step = (float) (2 * Math.PI / frameCount);
+
+        // Fixed seed - axes only need to differ between throws, not between loads
+        Random random = new Random(0x59454554L);
+        Matrix4fc[][] frames = new Matrix4fc[AXES][frameCount];
+        for (int a = 0; a < AXES; a++) {
+            float x, y, z, len;
+            do {
+                x = random.nextFloat() - 0.5f;
+                y = random.nextFloat() - 0.5f;
+                z = random.nextFloat() - 0.5f;
+                len = (float) Math.sqrt(x * x + y * y + z * z);
+            } while (len < 1e-3f);
+
+            for (int k = 0; k < frameCount; k++) {
+                frames[a][k] = new Matrix4f().rotation(k * step, x / len, y / len, z / len);
+            }
+        }
+        return new SpinKeyframes(interval, frames);
+    }
+
+    int axisCount() {
+        return frames.length;
+    }
+
+    int frameCount() {
+        return frames[0].length;
+    }
+
+    Matrix4fc frame(int axis, int k) {
+        return frames[axis][k];
+    }
+}
 
 record ModelPart(
     Material material,
-    float[] transformation
-) {}
+    float[] transformation,
+    Prototype<BlockData> blockDataPrototype,
+    Matrix4fc baseTransform
+) {
+    BlockData blockData() {
+        return blockDataPrototype.get();
+    }
+}
+
+/**
+ * A Bukkit object described by parsed config. Config is parsed on a worker thread, where item stacks,
+ * item meta and block data can't safely be created, so the object is built on the main thread when its
+ * snapshot is published and shared by every reader from then on. It must never be modified.
+ */
+final class Prototype<T> {
+    private final Supplier<T> factory;
+    // Written on the main thread before the snapshot holding it is published
+    private T value;
+
+    Prototype(Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Prototype of a plain stack of one item. Validated at parse time, so building can't fail.
+     */
+    static Prototype<ItemStack> item(Material material) {
+        requireItem(material);
+        return new Prototype<>(() -> new ItemStack(material));
+    }
+
+    static Material requireItem(Material material) {
+        if (!material.isItem()) throw new IllegalArgumentException(material + " is not an item");
+        return material;
+    }
+
+    /**
+     * Build the object unless already built. Main thread only.
+     */
+    void build() {
+        if (value == null) value = factory.get();
+    }
+
+    T get() {
+        T built = value;
+        if (built == null) throw new IllegalStateException("Prototype read before its config was published");
+        return built;
+    }
+}
 
 /**
  * Represents an entity exemption rule for swap ability.
@@ -0,0 +1,111 @@
+package anon.def9a2a4.yeetables;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the plugin data folder and triggers a reload when a config file changes (auto-reload in config.yml).
+ */
+public class ConfigWatcher {
+    private static final Set<String> WATCHED_FILES = Set.of("config.yml", "items.yml", "yeetables.yml");
+
+    // Editors often save in several writes - wait for the folder to go quiet before reloading
+    private static final long DEBOUNCE_MILLIS = 500;
+
+    private final JavaPlugin plugin;
+    private final Runnable onChange;
+
+    private WatchService watchService;
+    private Thread thread;
+
+    /**
+     * @param onChange Run on the main thread after a watched file changed
+     */
+    public ConfigWatcher(JavaPlugin plugin, Runnable onChange) {
+        this.plugin = plugin;
+        this.onChange = onChange;
+    }
+
+    public synchronized void setEnabled(boolean enabled) {
+        if (enabled && thread == null) {
+            start();
+        } else if (!enabled && thread != null) {
+            stop();
+        }
+    }
+
+    private void start() {
+        Path folder = plugin.getDataFolder().toPath();
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            folder.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to watch config folder, auto-reload disabled: " + e.getMessage());
+            closeWatchService();
+            return;
+        }
+
+        WatchService service = watchService;
+        thread = new Thread(() -> watch(service), "Yeetables-ConfigWatcher");
+        thread.setDaemon(true);
+        thread.start();
+        plugin.getLogger().info("Watching config files for changes.");
+    }
+
+    public synchronized void stop() {
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+        closeWatchService();
+    }
+
+    private void closeWatchService() {
+        if (watchService == null) return;
+        try {
+            watchService.close();
+        } catch (IOException ignored) {}
+        watchService = null;
+    }
+
+    private void watch(WatchService service) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                boolean changed = drain(service.take());
+
+                WatchKey next;
+                while ((next = service.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= drain(next);
+                }
+
+                if (changed && plugin.isEnabled()) {
+                    Bukkit.getScheduler().runTask(plugin, onChange);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ignored) {
+            // Stopped
+        }
+    }
+
+    private boolean drain(WatchKey key) {
+        boolean relevant = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.context() instanceof Path path && WATCHED_FILES.contains(path.getFileName().toString())) {
+                relevant = true;
+            }
+        }
+        key.reset();
+        return relevant;
+    }
+}
@@ -0,0 +1,157 @@
+package anon.def9a2a4.yeetables;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Throw cooldowns for online players, timed in server ticks.
+ *
+ * Each player has one long[] indexed by yeetable ordinal, holding the tick at which that yeetable
+ * can be thrown again. Tables are released when the player quits, optionally kept for a grace
+ * period (cooldown-grace-period in config.yml) so relogging doesn't reset them.
+ */
+public class CooldownTracker {
+
+    /**
+     * Cooldowns of a player who quit, kept until the grace period ends.
+     */
+    private record Departed(long[] readyAt, int expiresAt) {}
+
+    private final ConfigManager configManager;
+    private final Map<UUID, long[]> online = new HashMap<>();
+    // Insertion order matches expiry order, so expired entries are always at the head
+    private final Map<UUID, Departed> departed = new LinkedHashMap<>();
+
+    // Snapshot the tables are currently indexed against
+    private ConfigSnapshot indexed;
+
+    public CooldownTracker(ConfigManager configManager) {
+        this.configManager = configManager;
+        this.indexed = configManager.getSnapshot();
+    }
+
+    public boolean isOnCooldown(Player player, YeetableDefinition def) {
+        long[] readyAt = online.get(player.getUniqueId());
+        if (readyAt == null) {
+            readyAt = restore(player.getUniqueId());
+            if (readyAt == null) return false;
+        }
+
+        int slot = slotOf(def);
+        return slot >= 0 && Bukkit.getCurrentTick() < readyAt[slot];
+    }
+
+    public void setCooldown(Player player, YeetableDefinition def) {
+        int slot = slotOf(def);
+        if (slot < 0) return;
+
+        long[] readyAt = online.get(player.getUniqueId());
+        if (readyAt == null) {
+            readyAt = restore(player.getUniqueId());
+            if (readyAt == null) {
+                readyAt = new long[indexed.yeetablesByOrdinal().length];
+                online.put(player.getUniqueId(), readyAt);
+            }
+        }
+
+        // Round up, so a cooldown never ends early
+        long ticks = (def.properties().cooldown() + 49) / 50;
+        readyAt[slot] = Bukkit.getCurrentTick() + ticks;
+    }
+
+    /**
+     * Release a player's table when they quit. Cooldowns still running are kept for the grace period.
+     */
+    public void release(Player player) {
+        long[] readyAt = online.remove(player.getUniqueId());
+        int now = Bukkit.getCurrentTick();
+        pruneDeparted(now);
+
+        int grace = configManager.getSnapshot().cooldownGraceTicks();
+        if (readyAt == null || grace <= 0 || !anyRunning(readyAt, now)) return;
+
+        // Re-insert so the entry moves to the tail and expiry order holds
+        departed.remove(player.getUniqueId());
+        departed.put(player.getUniqueId(), new Departed(readyAt, now + grace));
+    }
+
+    public void clear() {
+        online.clear();
+        departed.clear();
+    }
+
+    private long[] restore(UUID uuid) {
+        if (departed.isEmpty()) return null;
+        pruneDeparted(Bukkit.getCurrentTick());
+
+        Departed entry = departed.remove(uuid);
+        if (entry == null) return null;
+        online.put(uuid, entry.readyAt());
+        return entry.readyAt();
+    }
+
+    private void pruneDeparted(int now) {
+        Iterator<Departed> it = departed.values().iterator();
+        while (it.hasNext()) {
+            if (it.next().expiresAt() > now) break;
+            it.remove();
+        }
+    }
+
+    private static boolean anyRunning(long[] readyAt, int now) {
+        for (long tick : readyAt) {
+            if (tick > now) return true;
+        }
+        return false;
+    }
+
+    // ========================================================================
+    // Ordinal mapping
+    // ========================================================================
+
+    /**
+     * Table slot for a definition, or -1 if it isn't part of the current config.
+     */
+    private int slotOf(YeetableDefinition def) {
+        ConfigSnapshot current = configManager.getSnapshot();
+        if (current != indexed) {
+            remap(current);
+        }
+
+        if (indexed.byOrdinal(def.ordinal()) == def) return def.ordinal();
+
+        // Definition from another generation - fall back to its id
+        YeetableDefinition byId = indexed.yeetablesById().get(def.id());
+        return byId != null ? byId.ordinal() : -1;
+    }
+
+    /**
+     * Ordinals are reassigned on reload - carry every running cooldown over to its definition's new slot.
+     */
+    private void remap(ConfigSnapshot current) {
+        int size = current.yeetablesByOrdinal().length;
+        int[] newSlot = new int[indexed.yeetablesByOrdinal().length];
+        for (int i = 0; i < newSlot.length; i++) {
+            YeetableDefinition def = current.yeetablesById().get(indexed.yeetablesByOrdinal()[i].id());
+            newSlot[i] = def != null ? def.ordinal() : -1;
+        }
+
+        online.replaceAll((uuid, readyAt) -> remapTable(readyAt, newSlot, size));
+        departed.replaceAll((uuid, entry) -> new Departed(remapTable(entry.readyAt(), newSlot, size), entry.expiresAt()));
+        indexed = current;
+    }
+
+    private static long[] remapTable(long[] readyAt, int[] newSlot, int size) {
+        long[] remapped = new long[size];
+        for (int i = 0; i < readyAt.length && i < newSlot.length; i++) {
+            if (newSlot[i] >= 0) remapped[newSlot[i]] = readyAt[i];
+        }
+        return remapped;
+    }
+}
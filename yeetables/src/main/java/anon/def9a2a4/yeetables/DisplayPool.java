@@ -0,0 +1,156 @@
+package anon.def9a2a4.yeetables;
+
+import io.papermc.paper.entity.TeleportFlag;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Display;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-world pool of assembled display entities, so rapid throwing reuses models instead of
+ * spawning and destroying a parent plus one entity per part on every throw.
+ *
+ * Idle models stay assembled where their projectile landed, hidden from every player. They are keyed
+ * by render config, so a reload (new config instances) simply lets the old models time out.
+ */
+class DisplayPool {
+    private static final long SWEEP_INTERVAL_TICKS = 20L;
+
+    /**
+     * One assembled model. For block displays the root is the invisible parent and parts are its
+     * passengers; for item displays the root is the display itself and parts is empty.
+     */
+    record Assembly(Display root, List<? extends Display> parts) {
+        boolean isValid() {
+            if (!root.isValid()) return false;
+            for (Display part : parts) {
+                if (!part.isValid()) return false;
+            }
+            return true;
+        }
+
+        void setVisible(boolean visible) {
+            root.setVisibleByDefault(visible);
+            for (Display part : parts) {
+                part.setVisibleByDefault(visible);
+            }
+        }
+
+        void remove() {
+            for (Display part : parts) {
+                part.remove();
+            }
+            root.remove();
+        }
+    }
+
+    private record Idle(Assembly assembly, int since) {}
+
+    private final JavaPlugin plugin;
+    private final ConfigManager configManager;
+    // World -> render config -> idle models, oldest first
+    private final Map<UUID, Map<RenderConfig, ArrayDeque<Idle>>> idle = new HashMap<>();
+    private BukkitTask sweepTask;
+
+    DisplayPool(JavaPlugin plugin, ConfigManager configManager) {
+        this.plugin = plugin;
+        this.configManager = configManager;
+    }
+
+    void start() {
+        if (sweepTask == null) {
+            sweepTask = Bukkit.getScheduler().runTaskTimer(plugin, this::sweep, SWEEP_INTERVAL_TICKS, SWEEP_INTERVAL_TICKS);
+        }
+    }
+
+    /**
+     * Stop sweeping and remove every pooled entity.
+     */
+    void stop() {
+        if (sweepTask != null) {
+            sweepTask.cancel();
+            sweepTask = null;
+        }
+        for (Map<RenderConfig, ArrayDeque<Idle>> byConfig : idle.values()) {
+            for (ArrayDeque<Idle> queue : byConfig.values()) {
+                for (Idle entry : queue) {
+                    entry.assembly().remove();
+                }
+            }
+        }
+        idle.clear();
+    }
+
+    /**
+     * Take an idle model for this render config, moved to the location but still hidden, or null if none.
+     */
+    Assembly acquire(Location location, RenderConfig config) {
+        Map<RenderConfig, ArrayDeque<Idle>> byConfig = idle.get(location.getWorld().getUID());
+        if (byConfig == null) return null;
+        ArrayDeque<Idle> queue = byConfig.get(config);
+        if (queue == null) return null;
+
+        // Most recently parked first - the one most likely to still be in a loaded chunk
+        Idle entry;
+        while ((entry = queue.pollLast()) != null) {
+            Assembly assembly = entry.assembly();
+            if (!assembly.isValid()) {
+                assembly.remove();
+                continue;
+            }
+            assembly.root().teleport(location, TeleportFlag.EntityState.RETAIN_PASSENGERS);
+            return assembly;
+        }
+        return null;
+    }
+
+    /**
+     * Hide and park a model that is no longer in use. Removed instead if the pool for its world is full.
+     */
+    void release(World world, RenderConfig config, Assembly assembly) {
+        int maxIdle = configManager.getSnapshot().displayPoolSize();
+        if (maxIdle <= 0 || !assembly.isValid()) {
+            assembly.remove();
+            return;
+        }
+
+        ArrayDeque<Idle> queue = idle.computeIfAbsent(world.getUID(), k -> new IdentityHashMap<>())
+            .computeIfAbsent(config, k -> new ArrayDeque<>());
+        if (queue.size() >= maxIdle) {
+            assembly.remove();
+            return;
+        }
+
+        assembly.setVisible(false);
+        queue.addLast(new Idle(assembly, Bukkit.getCurrentTick()));
+    }
+
+    /**
+     * Remove models idle for longer than the configured timeout.
+     */
+    private void sweep() {
+        int expiredBefore = Bukkit.getCurrentTick() - configManager.getSnapshot().displayPoolIdleTicks();
+
+        for (Map<RenderConfig, ArrayDeque<Idle>> byConfig : idle.values()) {
+            Iterator<ArrayDeque<Idle>> queues = byConfig.values().iterator();
+            while (queues.hasNext()) {
+                ArrayDeque<Idle> queue = queues.next();
+                while (!queue.isEmpty() && queue.peekFirst().since() <= expiredBefore) {
+                    queue.pollFirst().assembly().remove();
+                }
+                if (queue.isEmpty()) queues.remove();
+            }
+        }
+        idle.values().removeIf(Map::isEmpty);
+    }
+}
@@ -0,0 +1,83 @@
+package anon.def9a2a4.yeetables;
+
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Caches the yeetable resolved for each player's selected hotbar slot.
+ * Players spamming throws keep the same stack selected, so repeat clicks skip the matcher entirely.
+ * <p>
+ * Not every main hand change fires an invalidating event (plugins calling {@code setItemInMainHand},
+ * anvil renames, meta or item-id rewrites in place), so each entry is keyed by the stack's type and hash
+ * (type, amount and item data) and the config generation, all re-checked on every read. Any change to the
+ * stack's name, lore or data changes its hash and falls back to the full lookup.
+ */
+public class HeldItemCache {
+
+    /**
+     * Resolution for one player; definition is null for a stack that isn't throwable.
+     */
+    private record Entry(int slot, Material type, int stackHash, int generation, YeetableDefinition definition) {}
+
+    private final ConfigManager configManager;
+    private final Map<UUID, Entry> entries = new HashMap<>();
+
+    public HeldItemCache(ConfigManager configManager) {
+        this.configManager = configManager;
+    }
+
+    /**
+     * Get the yeetable for the player's main hand item, or null if it isn't throwable.
+     */
+    public YeetableDefinition resolve(Player player) {
+        PlayerInventory inventory = player.getInventory();
+        int slot = inventory.getHeldItemSlot();
+        ItemStack inHand = inventory.getItemInMainHand();
+        Material type = inHand.getType();
+        int stackHash = inHand.hashCode();
+        int generation = configManager.getGeneration();
+
+        Entry entry = entries.get(player.getUniqueId());
+        if (entry != null && entry.slot() == slot && entry.type() == type && entry.stackHash() == stackHash
+                && entry.generation() == generation) {
+            return entry.definition();
+        }
+
+        YeetableDefinition def = configManager.findMatchingYeetable(inHand);
+        entries.put(player.getUniqueId(), new Entry(slot, type, stackHash, generation, def));
+        return def;
+    }
+
+    /**
+     * Re-key the player's entry after a throw consumed from the held stack. The throw only changed the
+     * stack's amount, which is part of its hash, so without this every survival throw would miss.
+     */
+    public void afterThrow(Player player) {
+        Entry entry = entries.get(player.getUniqueId());
+        if (entry == null) return;
+
+        PlayerInventory inventory = player.getInventory();
+        ItemStack inHand = inventory.getItemInMainHand();
+        if (inventory.getHeldItemSlot() != entry.slot() || inHand.getType() != entry.type()) {
+            // Last item thrown - the empty hand resolves on its own next time
+            entries.remove(player.getUniqueId());
+            return;
+        }
+        entries.put(player.getUniqueId(), new Entry(entry.slot(), entry.type(), inHand.hashCode(),
+            entry.generation(), entry.definition()));
+    }
+
+    public void invalidate(Player player) {
+        entries.remove(player.getUniqueId());
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+}
@@ -3,6 +3,7 @@ package anon.def9a2a4.yeetables;
 import org.bukkit.ChatColor;
 import org.bukkit.command.CommandSender;
 
+import java.util.List;
 import java.util.Map;
 
 public class HelpProvider {
@@ -37,6 +38,10 @@ public class HelpProvider {
         sender.sendMessage(TEXT + "  Reload plugin configuration");
         sender.sendMessage(PERMISSION + "  Requires: " + TEXT + "yeetables.reload");
 
+        sender.sendMessage(HIGHLIGHT + "/yeetables stats");
+        sender.sendMessage(TEXT + "  Show renderer tick cost");
+        sender.sendMessage(PERMISSION + "  Requires: " + TEXT + "yeetables.stats");
+
         // Show available custom items
         Map<String, CustomItemDefinition> items = configManager.getCustomItems();
         if (!items.isEmpty()) {
@@ -62,6 +67,35 @@ public class HelpProvider {
         }
     }
 
+    public void showStats(CommandSender sender, RendererTicker ticker, SimulatedProjectiles simulated,
+                          HitscanQueue hitscan) {
+        sender.sendMessage(header("Stats"));
+        sender.sendMessage(SECONDARY + "Active renderers: " + HIGHLIGHT + RendererRegistry.size()
+            + TEXT + " (ticking " + ticker.size() + ", peak " + ticker.peakSize() + ")");
+        sender.sendMessage(SECONDARY + "Simulated projectiles: " + HIGHLIGHT + simulated.size());
+        sender.sendMessage(SECONDARY + "Hitscan shots resolved: " + HIGHLIGHT + hitscan.resolvedCount());
+        sender.sendMessage(SECONDARY + "Reclaimed by sweeper: " + HIGHLIGHT + RendererRegistry.swept());
+        sender.sendMessage(SECONDARY + "Last tick: " + HIGHLIGHT + formatMicros(ticker.lastTickNanos() / 1000.0));
+        sender.sendMessage(SECONDARY + "Budget fallbacks: " + HIGHLIGHT + ticker.worldBudgetFallbacks()
+            + TEXT + " (world limit), " + HIGHLIGHT + ticker.regionBudgetFallbacks()
+            + TEXT + " (" + RendererTicker.regionChunks() + "x" + RendererTicker.regionChunks() + " chunk region limit)");
+
+        List<RendererTicker.TickCost> costs = ticker.costByRendererCount();
+        if (costs.isEmpty()) return;
+        sender.sendMessage(SECONDARY + "Average tick cost by renderer count:");
+        for (RendererTicker.TickCost cost : costs) {
+            String range = cost.minRenderers() == cost.maxRenderers()
+                ? String.valueOf(cost.minRenderers())
+                : cost.minRenderers() + "-" + cost.maxRenderers();
+            sender.sendMessage(TEXT + "  " + range + ": " + HIGHLIGHT + formatMicros(cost.averageMicros())
+                + TEXT + " over " + cost.ticks() + " ticks");
+        }
+    }
+
+    private static String formatMicros(double micros) {
+        return String.format("%.1f\u00b5s", micros);
+    }
+
     private String header(String title) {
         return PRIMARY + "========== " + SECONDARY + title + PRIMARY + " ==========";
     }
@@ -0,0 +1,156 @@
+package anon.def9a2a4.yeetables;
+
+import org.bukkit.Location;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Snowball;
+import org.bukkit.event.entity.ProjectileHitEvent;
+import org.bukkit.projectiles.ProjectileSource;
+import org.bukkit.util.Vector;
+
+/**
+ * What a yeetable hit and how it was moving, independent of whether it was a real projectile entity
+ * or simulated by the plugin.
+ */
+interface HitContext {
+    /**
+     * Position of the projectile at impact (a copy, safe to modify).
+     */
+    Location getLocation();
+
+    /**
+     * Velocity of the projectile at impact, in blocks per tick (a copy, safe to modify).
+     */
+    Vector getVelocity();
+
+    ProjectileSource getShooter();
+
+    Entity getHitEntity();
+
+    Block getHitBlock();
+
+    BlockFace getHitBlockFace();
+
+    /**
+     * Bounces left before this projectile is destroyed on a block hit.
+     */
+    int getRemainingBounces();
+
+    /**
+     * Keep the projectile flying with a new velocity instead of ending it on this hit.
+     *
+     * @return false if this projectile can't continue, e.g. because it has no entity
+     */
+    boolean reflect(Vector velocity);
+
+    /**
+     * Suppress vanilla hit handling and remove the projectile now. No-op for simulated and hitscan
+     * projectiles, which have no vanilla behavior and are always gone after a hit.
+     */
+    void cancel();
+}
+
+/**
+ * Hit of a real snowball, backed by its {@link ProjectileHitEvent}.
+ */
+record EventHitContext(ProjectileHitEvent event, Snowball snowball, int remainingBounces) implements HitContext {
+    @Override
+    public Location getLocation() {
+        return snowball.getLocation();
+    }
+
+    @Override
+    public Vector getVelocity() {
+        return snowball.getVelocity();
+    }
+
+    @Override
+    public ProjectileSource getShooter() {
+        return snowball.getShooter();
+    }
+
+    @Override
+    public Entity getHitEntity() {
+        return event.getHitEntity();
+    }
+
+    @Override
+    public Block getHitBlock() {
+        return event.getHitBlock();
+    }
+
+    @Override
+    public BlockFace getHitBlockFace() {
+        return event.getHitBlockFace();
+    }
+
+    @Override
+    public int getRemainingBounces() {
+        return remainingBounces;
+    }
+
+    @Override
+    public boolean reflect(Vector velocity) {
+        // The snowball already sits at the hit position; it moves off along the new velocity next tick
+        event.setCancelled(true);
+        snowball.setVelocity(velocity);
+        return true;
+    }
+
+    @Override
+    public void cancel() {
+        event.setCancelled(true);
+        snowball.remove();
+    }
+}
+
+/**
+ * Hit of a projectile without an entity (simulated or hitscan), found by ray tracing.
+ */
+record SimulatedHitContext(Location location, Vector velocity, ProjectileSource shooter, Entity hitEntity,
+                           Block hitBlock, BlockFace hitBlockFace, int remainingBounces) implements HitContext {
+    @Override
+    public Location getLocation() {
+        return location.clone();
+    }
+
+    @Override
+    public Vector getVelocity() {
+        return velocity.clone();
+    }
+
+    @Override
+    public ProjectileSource getShooter() {
+        return shooter;
+    }
+
+    @Override
+    public Entity getHitEntity() {
+        return hitEntity;
+    }
+
+    @Override
+    public Block getHitBlock() {
+        return hitBlock;
+    }
+
+    @Override
+    public BlockFace getHitBlockFace() {
+        return hitBlockFace;
+    }
+
+    @Override
+    public int getRemainingBounces() {
+        return remainingBounces;
+    }
+
+    @Override
+    public boolean reflect(Vector velocity) {
+        return false;
+    }
+
+    @Override
+    public void cancel() {
+    }
+}
@@ -0,0 +1,177 @@
+package anon.def9a2a4.yeetables;
+
+import org.bukkit.FluidCollisionMode;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.util.BoundingBox;
+import org.bukkit.util.RayTraceResult;
+import org.bukkit.util.Vector;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Instant shots for yeetables with {@code projectile-type: hitscan}.
+ *
+ * Shots fired during a tick are queued and resolved together at the end of the tick, grouped by world:
+ * each shot traces blocks once for its reach, and when a world's shots are close together their entity
+ * candidates come from one shared query instead of one per shot. Entities are then tested against the
+ * shot by bounding box.
+ */
+class HitscanQueue {
+    // Shared entity query only while the shots of a world fit in this volume (blocks cubed)
+    private static final double SHARED_QUERY_VOLUME = 64.0 * 64.0 * 64.0;
+    private static final double TRACER_SPACING = 0.5;
+    private static final int MAX_TRACER_POINTS = 256;
+
+    private record Shot(Player shooter, YeetableDefinition def, Location start, Vector direction, double speed,
+                        int remainingBounces, boolean ignoreShooter) {}
+
+    private final BiConsumer<HitContext, YeetableDefinition> hitHandler;
+    // World -> shots fired this tick, in firing order
+    private final Map<UUID, List<Shot>> pending = new HashMap<>();
+    private long resolved;
+
+    /**
+     * @param hitHandler Called on the main thread for each shot that hit something
+     */
+    HitscanQueue(BiConsumer<HitContext, YeetableDefinition> hitHandler) {
+        this.hitHandler = hitHandler;
+    }
+
+    /**
+     * Queue a shot, resolved at the end of the current tick.
+     *
+     * @param velocity Direction and speed; the speed only matters to abilities and knockback
+     * @param ignoreShooter Whether the shot starts inside its shooter's hitbox and must not hit them
+     */
+    void fire(Player shooter, YeetableDefinition def, Location start, Vector velocity, int remainingBounces,
+              boolean ignoreShooter) {
+        double speed = velocity.length();
+        if (speed < 1e-6) return;
+        Vector direction = velocity.clone().multiply(1.0 / speed);
+        pending.computeIfAbsent(start.getWorld().getUID(), k -> new ArrayList<>())
+            .add(new Shot(shooter, def, start.clone(), direction, speed, remainingBounces, ignoreShooter));
+    }
+
+    long resolvedCount() {
+        return resolved;
+    }
+
+    void clear() {
+        pending.clear();
+    }
+
+    /**
+     * Resolve every queued shot. Called at the end of each server tick.
+     */
+    void resolve() {
+        if (pending.isEmpty()) return;
+
+        // Hit handlers may queue ricochets, which then resolve at the end of the next tick
+        List<List<Shot>> batches = new ArrayList<>(pending.values());
+        pending.clear();
+        for (List<Shot> batch : batches) {
+            resolveWorld(batch);
+        }
+    }
+
+    private void resolveWorld(List<Shot> shots) {
+        World world = shots.get(0).start().getWorld();
+        int count = shots.size();
+
+        // Blocks first: they cap how far each shot can reach
+        RayTraceResult[] blockHits = new RayTraceResult[count];
+        double[] reach = new double[count];
+        BoundingBox[] segments = new BoundingBox[count];
+        BoundingBox union = null;
+        for (int i = 0; i < count; i++) {
+            Shot shot = shots.get(i);
+            double range = shot.def().properties().range();
+            RayTraceResult blockHit = world.rayTraceBlocks(shot.start(), shot.direction(), range,
+                FluidCollisionMode.NEVER, true);
+            blockHits[i] = blockHit;
+            reach[i] = blockHit != null ? blockHit.getHitPosition().distance(shot.start().toVector()) : range;
+
+            Vector from = shot.start().toVector();
+            Vector to = from.clone().add(shot.direction().clone().multiply(reach[i]));
+            segments[i] = BoundingBox.of(from, to).expand(SimulatedProjectiles.RAY_SIZE);
+            union = union == null ? segments[i].clone() : union.union(segments[i]);
+        }
+
+        Collection<Entity> shared = union.getVolume() <= SHARED_QUERY_VOLUME
+            ? world.getNearbyEntities(union, SimulatedProjectiles::isHittable) : null;
+
+        for (int i = 0; i < count; i++) {
+            Shot shot = shots.get(i);
+            Collection<Entity> candidates = shared != null
+                ? shared : world.getNearbyEntities(segments[i], SimulatedProjectiles::isHittable);
+
+            // Closest entity whose (slightly grown) box the shot passes through before the block
+            Vector from = shot.start().toVector();
+            Entity hitEntity = null;
+            Vector hitPosition = null;
+            double closest = reach[i];
+            for (Entity entity : candidates) {
+                if (shot.ignoreShooter() && entity == shot.shooter()) continue;
+                BoundingBox box = entity.getBoundingBox();
+                if (!box.overlaps(segments[i])) continue;
+                RayTraceResult result = box.expand(SimulatedProjectiles.RAY_SIZE).rayTrace(from, shot.direction(), closest);
+                if (result == null) continue;
+                double distance = result.getHitPosition().distance(from);
+                if (distance <= closest) {
+                    closest = distance;
+                    hitEntity = entity;
+                    hitPosition = result.getHitPosition();
+                }
+            }
+
+            Block hitBlock = null;
+            BlockFace hitFace = null;
+            if (hitEntity == null && blockHits[i] != null) {
+                hitPosition = blockHits[i].getHitPosition();
+                hitBlock = blockHits[i].getHitBlock();
+                hitFace = blockHits[i].getHitBlockFace();
+            }
+
+            Vector end = hitPosition != null ? hitPosition : from.clone().add(shot.direction().clone().multiply(reach[i]));
+            drawTracer(world, from, end, shot.def());
+            resolved++;
+
+            if (hitPosition == null) continue;
+            Location location = hitPosition.toLocation(world);
+            location.setDirection(shot.direction());
+            Vector velocity = shot.direction().clone().multiply(shot.speed());
+            hitHandler.accept(new SimulatedHitContext(location, velocity, shot.shooter(), hitEntity, hitBlock, hitFace,
+                shot.remainingBounces()), shot.def());
+        }
+    }
+
+    private static void drawTracer(World world, Vector from, Vector to, YeetableDefinition def) {
+        Vector step = to.clone().subtract(from);
+        double length = step.length();
+        int points = Math.min(MAX_TRACER_POINTS, (int) (length / TRACER_SPACING));
+        if (points <= 0) return;
+        step.multiply(1.0 / points);
+
+        double x = from.getX();
+        double y = from.getY();
+        double z = from.getZ();
+        for (int p = 0; p < points; p++) {
+            x += step.getX();
+            y += step.getY();
+            z += step.getZ();
+            world.spawnParticle(Particle.ITEM, x, y, z, 1, 0, 0, 0, 0, def.particleItem());
+        }
+    }
+}
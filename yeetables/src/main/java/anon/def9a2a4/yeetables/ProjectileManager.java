@@ -1,5 +1,6 @@
 package anon.def9a2a4.yeetables;
 
+import anon.def9a2a4.yeetables.math.ProjectileMath;
 import org.bukkit.GameMode;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -7,8 +8,10 @@ import org.bukkit.NamespacedKey;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.entity.Arrow;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
+import org.bukkit.entity.Projectile;
 import org.bukkit.entity.Snowball;
 import org.bukkit.event.entity.ProjectileHitEvent;
 import org.bukkit.inventory.ItemStack;
@@ -20,26 +23,49 @@ import org.bukkit.util.Vector;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
-import java.util.UUID;
 
 public class ProjectileManager {
     private final JavaPlugin plugin;
     private final ConfigManager configManager;
 
     private final NamespacedKey keyYeetableId;
+    private final NamespacedKey keyYeetableOrdinal;
+    private final NamespacedKey keyConfigGeneration;
     private final NamespacedKey keyBounces;
-    private final NamespacedKey keyRendererId;
 
-    private final Map<UUID, Map<String, Long>> cooldowns = new HashMap<>();
+    // Carrier item for display-rendered projectiles when the snowball itself is hidden
+    private static final ItemStack HIDDEN_ITEM = new ItemStack(Material.AIR);
+
+    private final CooldownTracker cooldowns;
+    private final RendererTicker rendererTicker;
+    private final DisplayPool displayPool;
+    private final ProjectilePhysics physics;
+    private final SimulatedProjectiles simulated;
+    private final HitscanQueue hitscan;
+    // Definition each live projectile was launched with, keyed by entity ID.
+    // Holding the definition keeps hits consistent with the config snapshot at launch, even across a reload.
+    private final Map<Integer, YeetableDefinition> inFlight = new HashMap<>();
+    // Bounces left per live projectile, keyed by entity ID. In-place bounces only update this;
+    // the PDC copy is written at spawn and only read for projectiles from a saved chunk.
+    private final Map<Integer, Integer> remainingBounces = new HashMap<>();
     private final Random random = new Random();
 
-    public ProjectileManager(JavaPlugin plugin, ConfigManager configManager) {
+    public ProjectileManager(JavaPlugin plugin, ConfigManager configManager, CooldownTracker cooldowns,
+                             RendererTicker rendererTicker, DisplayPool displayPool, ProjectilePhysics physics,
+                             SimulatedProjectiles simulated, HitscanQueue hitscan) {
         this.plugin = plugin;
         this.configManager = configManager;
+        this.cooldowns = cooldowns;
+        this.rendererTicker = rendererTicker;
+        this.displayPool = displayPool;
+        this.physics = physics;
+        this.simulated = simulated;
+        this.hitscan = hitscan;
 
         this.keyYeetableId = new NamespacedKey(plugin, "yeetable_id");
+        this.keyYeetableOrdinal = new NamespacedKey(plugin, "yeetable_ordinal");
+        this.keyConfigGeneration = new NamespacedKey(plugin, "config_generation");
         this.keyBounces = new NamespacedKey(plugin, "bounces");
-        this.keyRendererId = new NamespacedKey(plugin, "renderer_id");
     }
 
     public JavaPlugin getPlugin() {
@@ -55,19 +81,11 @@ public class ProjectileManager {
     // ========================================================================
 
     public boolean isOnCooldown(Player player, YeetableDefinition def) {
-        long now = System.currentTimeMillis();
-        Map<String, Long> playerCooldowns = cooldowns.get(player.getUniqueId());
-        if (playerCooldowns == null) return false;
-
-        Long lastThrow = playerCooldowns.get(def.id());
-        if (lastThrow == null) return false;
-
-        return (now - lastThrow) < def.properties().cooldown();
+        return cooldowns.isOnCooldown(player, def);
     }
 
     public void setCooldown(Player player, YeetableDefinition def) {
-        cooldowns.computeIfAbsent(player.getUniqueId(), k -> new HashMap<>())
-                 .put(def.id(), System.currentTimeMillis());
+        cooldowns.setCooldown(player, def);
     }
 
     // ========================================================================
@@ -80,6 +98,14 @@ public class ProjectileManager {
             launchArrow(player, def);
             return;
         }
+        if (def.isSimulated()) {
+            launchSimulated(player, def);
+            return;
+        }
+        if (def.isHitscan()) {
+            launchHitscan(player, def);
+            return;
+        }
 
         ProjectileProperties props = def.properties();
 
@@ -91,37 +117,106 @@ public class ProjectileManager {
 
         // Tag with yeetable ID
         PersistentDataContainer pdc = snowball.getPersistentDataContainer();
-        pdc.set(keyYeetableId, PersistentDataType.STRING, def.id());
-
-        // Set initial bounces if ability is bounce
-        if ("bounce".equals(def.ability()) && def.abilityConfig() != null) {
-            int numBounces = def.abilityConfig().getInt("num-bounces", 3);
-            pdc.set(keyBounces, PersistentDataType.INTEGER, numBounces);
+        tagProjectile(pdc, def);
+        inFlight.put(snowball.getEntityId(), def);
+        physics.track(snowball, props);
+
+        // Set initial bounces if the ability bounces
+        int bounces = initialBounces(def);
+        if (bounces > 0) {
+            pdc.set(keyBounces, PersistentDataType.INTEGER, bounces);
+            remainingBounces.put(snowball.getEntityId(), bounces);
         }
 
-        // Setup rendering
+        attachRenderer(snowball, def);
+
+        // Play launch sound if configured
+        playLaunchSound(player.getLocation(), def.soundConfig());
+
+        // Consume item
+        consumeItem(player, def.consumption());
+
+        // Set cooldown
+        setCooldown(player, def);
+    }
+
+    /**
+     * Give a freshly spawned snowball its yeetable's look: the item, or a display model riding it.
+     */
+    private void attachRenderer(Snowball snowball, YeetableDefinition def) {
         RenderConfig renderConfig = def.renderConfig();
-        if (renderConfig instanceof SimpleRender simple) {
-            snowball.setItem(new ItemStack(simple.material()));
+        if (!(renderConfig instanceof SimpleRender) && !fitsDisplayBudget(snowball.getLocation())) {
+            // Too many display models around - degrade to a plain item with the model's look
+            snowball.setItem(fallbackItem(def));
+        } else if (renderConfig instanceof SimpleRender simple) {
+            snowball.setItem(simple.item());
         } else if (renderConfig instanceof BlockDisplayRender blockDisplay) {
             BlockDisplayRenderer renderer = new BlockDisplayRenderer(
-                plugin, snowball, props.gravityMultiplier(), blockDisplay
+                plugin, rendererTicker, displayPool, snowball, blockDisplay
             );
             renderer.spawn();
-            pdc.set(keyRendererId, PersistentDataType.INTEGER, renderer.getId());
             if (configManager.shouldHideDisplayProjectiles()) {
-                snowball.setItem(new ItemStack(Material.AIR));
+                snowball.setItem(HIDDEN_ITEM);
             }
         } else if (renderConfig instanceof ItemDisplayRender itemDisplay) {
             ItemDisplayRenderer renderer = new ItemDisplayRenderer(
-                plugin, snowball, props.gravityMultiplier(), itemDisplay
+                rendererTicker, displayPool, snowball, itemDisplay
             );
             renderer.spawn();
-            pdc.set(keyRendererId, PersistentDataType.INTEGER, renderer.getId());
             if (configManager.shouldHideDisplayProjectiles()) {
-                snowball.setItem(new ItemStack(Material.AIR));
+                snowball.setItem(HIDDEN_ITEM);
             }
         }
+    }
+
+    private boolean fitsDisplayBudget(Location location) {
+        ConfigSnapshot snapshot = configManager.getSnapshot();
+        return rendererTicker.fitsBudget(location, snapshot.displayBudgetPerWorld(), snapshot.displayBudgetPerRegion());
+    }
+
+    /**
+     * Plain item showing a yeetable's look, for display-rendered projectiles that fell back to simple
+     * rendering and for simulated projectiles.
+     */
+    private static ItemStack fallbackItem(YeetableDefinition def) {
+        if (def.renderConfig() instanceof SimpleRender simple) {
+            return simple.item();
+        }
+        if (def.renderConfig() instanceof ItemDisplayRender itemDisplay) {
+            return itemDisplay.item();
+        }
+        // First part's block for block displays
+        return def.particleItem();
+    }
+
+    private void launchSimulated(Player player, YeetableDefinition def) {
+        ProjectileProperties props = def.properties();
+
+        Vector dir = applyAccuracyOffset(player.getLocation().getDirection(), props.accuracyOffset());
+
+        // Thrown from just below the eyes, like a vanilla snowball
+        Location start = player.getEyeLocation().subtract(0, 0.1, 0);
+        int bounces = initialBounces(def);
+        simulated.launch(player, def, start, dir.multiply(props.speed()), bounces, fallbackItem(def));
+
+        // Play launch sound if configured
+        playLaunchSound(player.getLocation(), def.soundConfig());
+
+        // Consume item
+        consumeItem(player, def.consumption());
+
+        // Set cooldown
+        setCooldown(player, def);
+    }
+
+    private void launchHitscan(Player player, YeetableDefinition def) {
+        ProjectileProperties props = def.properties();
+
+        Vector dir = applyAccuracyOffset(player.getLocation().getDirection(), props.accuracyOffset());
+
+        // Resolved with every other hitscan throw at the end of the tick
+        int bounces = initialBounces(def);
+        hitscan.fire(player, def, player.getEyeLocation(), dir.multiply(props.speed()), bounces, true);
 
         // Play launch sound if configured
         playLaunchSound(player.getLocation(), def.soundConfig());
@@ -135,7 +230,7 @@ public class ProjectileManager {
 
     private void launchArrow(Player player, YeetableDefinition def) {
         // Don't fire if player already has an active grapple
-        if ("grapple".equals(def.ability()) && GrappleAbility.hasActiveGrapple(player)) {
+        if (def.abilityConfig() instanceof GrappleConfig && GrappleAbility.hasActiveGrapple(player)) {
             return;
         }
 
@@ -148,11 +243,13 @@ public class ProjectileManager {
 
         // Tag with yeetable ID
         PersistentDataContainer pdc = arrow.getPersistentDataContainer();
-        pdc.set(keyYeetableId, PersistentDataType.STRING, def.id());
+        tagProjectile(pdc, def);
+        inFlight.put(arrow.getEntityId(), def);
+        physics.track(arrow, props);
 
         // Start grapple tracking
-        if ("grapple".equals(def.ability())) {
-            GrappleAbility.onLaunch(player, arrow, def.abilityConfig(), plugin);
+        if (def.abilityConfig() instanceof GrappleConfig grapple) {
+            GrappleAbility.onLaunch(player, arrow, grapple, plugin);
         }
 
         // Play launch sound if configured
@@ -167,27 +264,81 @@ public class ProjectileManager {
 
     public void spawnBouncedProjectile(Player shooter, Location location, Vector velocity,
                                         YeetableDefinition def, int remainingBounces) {
+        if (def.isSimulated()) {
+            simulated.launch(shooter, def, location, velocity, remainingBounces, fallbackItem(def));
+            return;
+        }
+        if (def.isHitscan()) {
+            // Ricochet - may hit the shooter, since it doesn't start inside them
+            hitscan.fire(shooter, def, location, velocity, remainingBounces, false);
+            return;
+        }
+
         Snowball snowball = location.getWorld().spawn(location, Snowball.class, s -> {
             s.setVelocity(velocity);
             s.setShooter(shooter);
 
             PersistentDataContainer pdc = s.getPersistentDataContainer();
-            pdc.set(keyYeetableId, PersistentDataType.STRING, def.id());
+            tagProjectile(pdc, def);
             pdc.set(keyBounces, PersistentDataType.INTEGER, remainingBounces);
-
-            // Set item appearance
-            if (def.renderConfig() instanceof SimpleRender simple) {
-                s.setItem(new ItemStack(simple.material()));
-            }
         });
+        inFlight.put(snowball.getEntityId(), def);
+        this.remainingBounces.put(snowball.getEntityId(), remainingBounces);
+        physics.track(snowball, def.properties());
+
+        // Same look as the projectile it replaces, model included
+        attachRenderer(snowball, def);
+    }
+
+    private void tagProjectile(PersistentDataContainer pdc, YeetableDefinition def) {
+        pdc.set(keyYeetableOrdinal, PersistentDataType.INTEGER, def.ordinal());
+        pdc.set(keyConfigGeneration, PersistentDataType.INTEGER, configManager.getGeneration());
+        // String id is only read for projectiles launched before a reload
+        pdc.set(keyYeetableId, PersistentDataType.STRING, def.id());
+    }
+
+    /**
+     * Resolve the yeetable a projectile was launched as, or null if it isn't one of ours.
+     */
+    public YeetableDefinition resolveDefinition(Projectile projectile) {
+        YeetableDefinition launched = inFlight.get(projectile.getEntityId());
+        if (launched != null) return launched;
+
+        // Not launched in this session (e.g. loaded from a saved chunk) - use the PDC tags
+        PersistentDataContainer pdc = projectile.getPersistentDataContainer();
+
+        Integer generation = pdc.get(keyConfigGeneration, PersistentDataType.INTEGER);
+        Integer ordinal = pdc.get(keyYeetableOrdinal, PersistentDataType.INTEGER);
+        if (generation != null && ordinal != null) {
+            YeetableDefinition def = configManager.getYeetableByOrdinal(generation, ordinal);
+            if (def != null) return def;
+        }
+
+        // Stale ordinal from before a reload - fall back to the id
+        String yeetableId = pdc.get(keyYeetableId, PersistentDataType.STRING);
+        if (yeetableId == null) return null;
+
+        YeetableDefinition def = configManager.getYeetableById(yeetableId);
+        if (def == null) {
+            plugin.getLogger().warning("Unknown yeetable ID: " + yeetableId);
+        }
+        return def;
+    }
+
+    /**
+     * Stop tracking a projectile that left the world.
+     */
+    public void untrack(Entity entity) {
+        inFlight.remove(entity.getEntityId());
+        remainingBounces.remove(entity.getEntityId());
     }
 
     private Vector applyAccuracyOffset(Vector direction, double offset) {
         if (offset <= 0.0) return direction;
-        double x = direction.getX() + (random.nextDouble() - 0.5) * offset;
-        double y = direction.getY() + (random.nextDouble() - 0.5) * offset;
-        double z = direction.getZ() + (random.nextDouble() - 0.5) * offset;
-        return new Vector(x, y, z).normalize();
+        double[] out = new double[3];
+        ProjectileMath.accuracyOffset(direction.getX(), direction.getY(), direction.getZ(), offset,
+            random.nextDouble(), random.nextDouble(), random.nextDouble(), out);
+        return new Vector(out[0], out[1], out[2]);
     }
 
     private void consumeItem(Player player, ConsumptionBehavior behavior) {
@@ -226,46 +377,51 @@ public class ProjectileManager {
     // ========================================================================
 
     public void handleHit(ProjectileHitEvent event, Snowball snowball) {
-        PersistentDataContainer pdc = snowball.getPersistentDataContainer();
-        String yeetableId = pdc.get(keyYeetableId, PersistentDataType.STRING);
-        if (yeetableId == null) return;
-
-        YeetableDefinition def = configManager.getYeetableById(yeetableId);
-        if (def == null) {
-            plugin.getLogger().warning("Unknown yeetable ID: " + yeetableId);
-            return;
-        }
-
-        // Clean up renderer if present
-        Integer rendererId = pdc.get(keyRendererId, PersistentDataType.INTEGER);
-        if (rendererId != null) {
-            RendererRegistry.remove(rendererId);
+        YeetableDefinition def = resolveDefinition(snowball);
+        if (def == null) return;
+
+        int entityId = snowball.getEntityId();
+        int remaining = getRemainingBounces(snowball);
+        if (handleHit(new EventHitContext(event, snowball, remaining), def)) {
+            // Clean up renderer if present
+            RendererRegistry.remove(entityId);
+        } else {
+            // Bounced in place - same entity keeps flying with its renderer
+            remainingBounces.put(entityId, remaining - 1);
         }
+    }
 
+    /**
+     * Run abilities and hit effects for a yeetable hit, from a real or a simulated projectile.
+     *
+     * @return false if the projectile survives the hit (bounced in place), true if it ends here
+     */
+    boolean handleHit(HitContext hit, YeetableDefinition def) {
         // Check for ability
-        Ability ability = AbilityRegistry.get(def.ability());
+        Ability ability = def.abilityHandler();
         boolean destroy = true;
 
         if (ability != null) {
             // Spawn particles before ability (for bounce feedback)
-            Location particleLoc = getImpactLocation(event, snowball);
+            Location particleLoc = getImpactLocation(hit);
             spawnImpactParticles(particleLoc, def);
 
-            destroy = ability.onHit(event, snowball, def, def.abilityConfig(), this);
+            destroy = ability.onHit(hit, def, def.abilityConfig(), this);
         }
 
         if (destroy) {
             // Apply standard hit effects
-            applyHitEffects(event, snowball, def);
+            applyHitEffects(hit, def);
         }
+        return destroy;
     }
 
-    private void applyHitEffects(ProjectileHitEvent event, Snowball snowball, YeetableDefinition def) {
+    private void applyHitEffects(HitContext hit, YeetableDefinition def) {
         ProjectileProperties props = def.properties();
-        Location impactLoc = getImpactLocation(event, snowball);
+        Location impactLoc = getImpactLocation(hit);
 
         // Spawn particles (if not already spawned by ability)
-        if (def.ability() == null) {
+        if (def.abilityHandler() == null) {
             spawnImpactParticles(impactLoc, def);
         }
 
@@ -273,7 +429,7 @@ public class ProjectileManager {
         playImpactSound(impactLoc, def.soundConfig());
 
         // Entity hit effects
-        if (event.getHitEntity() instanceof LivingEntity le && snowball.getShooter() instanceof Player shooter) {
+        if (hit.getHitEntity() instanceof LivingEntity le && hit.getShooter() instanceof Player shooter) {
             // Damage
             if (props.damage() > 0) {
                 le.damage(props.damage(), shooter);
@@ -281,55 +437,44 @@ public class ProjectileManager {
 
             // Knockback
             if (props.knockbackStrength() > 0 || props.knockbackVertical() > 0) {
-                Vector dir = snowball.getVelocity().clone();
-                if (dir.lengthSquared() < 1e-6) {
-                    dir = le.getLocation().toVector().subtract(snowball.getLocation().toVector());
-                }
-                dir.normalize();
-
-                Vector kb = dir.multiply(props.knockbackStrength());
-                kb.setY(Math.max(kb.getY(), props.knockbackVertical()));
-                le.setVelocity(le.getVelocity().add(kb));
+                Vector vel = hit.getVelocity();
+                Location from = hit.getLocation();
+                Location to = le.getLocation();
+                double[] kb = new double[3];
+                ProjectileMath.knockback(vel.getX(), vel.getY(), vel.getZ(),
+                    to.getX() - from.getX(), to.getY() - from.getY(), to.getZ() - from.getZ(),
+                    props.knockbackStrength(), props.knockbackVertical(), kb);
+                le.setVelocity(le.getVelocity().add(new Vector(kb[0], kb[1], kb[2])));
             }
         }
 
         // Drop item on break
         if (props.dropOnBreak() != null) {
-            snowball.getWorld().dropItemNaturally(snowball.getLocation(), new ItemStack(props.dropOnBreak()));
+            Location dropLoc = hit.getLocation();
+            dropLoc.getWorld().dropItemNaturally(dropLoc, props.dropOnBreak());
         }
     }
 
-    private Location getImpactLocation(ProjectileHitEvent event, Snowball snowball) {
-        if (event.getHitEntity() != null) {
-            return event.getHitEntity().getLocation();
-        } else if (event.getHitBlock() != null) {
-            return event.getHitBlock().getLocation().add(0.5, 0.5, 0.5);
+    private Location getImpactLocation(HitContext hit) {
+        if (hit.getHitEntity() != null) {
+            return hit.getHitEntity().getLocation();
+        } else if (hit.getHitBlock() != null) {
+            return hit.getHitBlock().getLocation().add(0.5, 0.5, 0.5);
         }
-        return snowball.getLocation();
+        return hit.getLocation();
     }
 
     private void spawnImpactParticles(Location loc, YeetableDefinition def) {
         ImpactParticleConfig particles = def.impactParticles();
         if (particles.count() <= 0) return;
 
-        // Determine particle material from render config
-        Material particleMaterial = Material.STONE;
-        if (def.renderConfig() instanceof SimpleRender simple) {
-            particleMaterial = simple.material();
-        } else if (def.renderConfig() instanceof BlockDisplayRender blockDisplay) {
-            if (!blockDisplay.parts().isEmpty()) {
-                particleMaterial = blockDisplay.parts().get(0).material();
-            }
-        }
-
-        ItemStack itemStack = new ItemStack(particleMaterial);
         loc.getWorld().spawnParticle(
             Particle.ITEM,
             loc,
             particles.count(),
             particles.spread(), particles.spread(), particles.spread(),
             particles.velocity(),
-            itemStack
+            def.particleItem()
         );
     }
 
@@ -337,7 +482,19 @@ public class ProjectileManager {
     // Bounce Support
     // ========================================================================
 
+    /**
+     * Bounces a fresh throw starts with. Bounce and ignite both bounce off blocks.
+     */
+    private static int initialBounces(YeetableDefinition def) {
+        if (def.abilityConfig() instanceof BounceConfig bounce) return bounce.numBounces();
+        if (def.abilityConfig() instanceof IgniteConfig ignite) return ignite.numBounces();
+        return 0;
+    }
+
     public int getRemainingBounces(Snowball snowball) {
+        Integer tracked = remainingBounces.get(snowball.getEntityId());
+        if (tracked != null) return tracked;
+
         Integer bounces = snowball.getPersistentDataContainer().get(keyBounces, PersistentDataType.INTEGER);
         return bounces != null ? bounces : 0;
     }
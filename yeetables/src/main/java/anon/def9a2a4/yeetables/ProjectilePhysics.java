@@ -0,0 +1,147 @@
+package anon.def9a2a4.yeetables;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.AbstractArrow;
+import org.bukkit.entity.Projectile;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.util.Vector;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Physics stage for in-flight yeetables: gravity multiplier, drag and terminal velocity from
+ * {@link ProjectileProperties}, applied in one pass per world each tick, independent of how the
+ * projectile is rendered. Velocity is only written back when it actually changed.
+ */
+class ProjectilePhysics {
+    // Vanilla gravity per tick, scaled by gravity-multiplier
+    static final double SNOWBALL_GRAVITY = 0.03;
+    static final double ARROW_GRAVITY = 0.05;
+    private static final int INITIAL_CAPACITY = 32;
+
+    /**
+     * Tracked projectiles of one world, as parallel arrays. Removal moves the last entry into the freed slot.
+     */
+    private static class WorldBatch {
+        int size;
+        Projectile[] projectiles = new Projectile[INITIAL_CAPACITY];
+        double[] gravityAdjustment = new double[INITIAL_CAPACITY];
+        double[] dragFactor = new double[INITIAL_CAPACITY];
+        double[] terminalSquared = new double[INITIAL_CAPACITY];
+
+        void add(Projectile projectile, double gravity, double drag, double terminalSq) {
+            if (size == projectiles.length) {
+                int capacity = size * 2;
+                projectiles = Arrays.copyOf(projectiles, capacity);
+                gravityAdjustment = Arrays.copyOf(gravityAdjustment, capacity);
+                dragFactor = Arrays.copyOf(dragFactor, capacity);
+                terminalSquared = Arrays.copyOf(terminalSquared, capacity);
+            }
+            projectiles[size] = projectile;
+            gravityAdjustment[size] = gravity;
+            dragFactor[size] = drag;
+            terminalSquared[size] = terminalSq;
+            size++;
+        }
+
+        void removeAt(int i) {
+            int last = --size;
+            projectiles[i] = projectiles[last];
+            gravityAdjustment[i] = gravityAdjustment[last];
+            dragFactor[i] = dragFactor[last];
+            terminalSquared[i] = terminalSquared[last];
+            projectiles[last] = null;
+        }
+
+        void tick() {
+            for (int i = 0; i < size; ) {
+                Projectile projectile = projectiles[i];
+                if (!projectile.isValid()) {
+                    removeAt(i);
+                    continue;
+                }
+
+                Vector vel = projectile.getVelocity();
+                double x = vel.getX() * dragFactor[i];
+                double y = vel.getY() * dragFactor[i] + gravityAdjustment[i];
+                double z = vel.getZ() * dragFactor[i];
+
+                double speedSq = x * x + y * y + z * z;
+                if (speedSq > terminalSquared[i]) {
+                    double scale = Math.sqrt(terminalSquared[i] / speedSq);
+                    x *= scale;
+                    y *= scale;
+                    z *= scale;
+                }
+
+                if (x != vel.getX() || y != vel.getY() || z != vel.getZ()) {
+                    projectile.setVelocity(vel.setX(x).setY(y).setZ(z));
+                }
+                i++;
+            }
+        }
+    }
+
+    private final JavaPlugin plugin;
+    private final Map<UUID, WorldBatch> worlds = new HashMap<>();
+    private BukkitTask task;
+
+    ProjectilePhysics(JavaPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Start the per-tick pass. Call before the renderer ticker starts, so renderers see this tick's velocity.
+     */
+    void start() {
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        }
+    }
+
+    void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        worlds.clear();
+    }
+
+    /**
+     * Track a launched projectile. Projectiles with vanilla physics (no gravity change, drag or
+     * terminal velocity) are not tracked at all.
+     */
+    void track(Projectile projectile, ProjectileProperties props) {
+        double baseGravity = projectile instanceof AbstractArrow ? ARROW_GRAVITY : SNOWBALL_GRAVITY;
+        double gravity = gravityAdjustment(props, baseGravity);
+        double drag = 1.0 - props.drag();
+        double terminal = props.terminalVelocity();
+        double terminalSq = terminal > 0 ? terminal * terminal : Double.POSITIVE_INFINITY;
+        if (gravity == 0 && drag == 1.0 && terminal <= 0) return;
+
+        worlds.computeIfAbsent(projectile.getWorld().getUID(), k -> new WorldBatch())
+            .add(projectile, gravity, drag, terminalSq);
+    }
+
+    /**
+     * Per-tick change to vertical velocity on top of vanilla gravity, so the projectile falls with
+     * gravity-multiplier times the base gravity of its entity type.
+     */
+    static double gravityAdjustment(ProjectileProperties props, double baseGravity) {
+        return -baseGravity * (props.gravityMultiplier() - 1.0);
+    }
+
+    private void tick() {
+        Iterator<WorldBatch> it = worlds.values().iterator();
+        while (it.hasNext()) {
+            WorldBatch batch = it.next();
+            batch.tick();
+            if (batch.size == 0) it.remove();
+        }
+    }
+}
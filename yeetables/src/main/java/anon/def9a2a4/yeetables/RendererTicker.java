@@ -0,0 +1,389 @@
+package anon.def9a2a4.yeetables;
+
+import anon.def9a2a4.yeetables.math.Angles;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Snowball;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.util.Vector;
+import org.joml.Matrix4f;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Drives every active display renderer from one repeating task.
+ *
+ * Per-renderer state lives in parallel arrays (structure of arrays), so each tick is a single loop
+ * over dense data instead of one scheduler task per renderer. Removal moves the last entry into the
+ * freed slot, so the arrays never have holes.
+ */
+class RendererTicker {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int MAX_LIFE = 20 * 10; // 10 seconds max safety
+    // How often each renderer recomputes its level of detail per viewer
+    private static final int VIEWER_INTERVAL = 10;
+
+    // Display budgets are counted per region of REGION_CHUNKS x REGION_CHUNKS chunks
+    private static final int REGION_SHIFT = 2;
+    private static final int REGION_CHUNKS = 1 << REGION_SHIFT;
+
+    // Tick cost is bucketed by renderer count: bucket b holds counts in [2^(b-1), 2^b)
+    private static final int COST_BUCKETS = 20;
+
+    /**
+     * Average cost of a tick while the renderer count was in [minRenderers, maxRenderers].
+     */
+    record TickCost(int minRenderers, int maxRenderers, long ticks, double averageMicros) {}
+
+    private record Region(UUID world, int x, int z) {}
+
+    private final JavaPlugin plugin;
+    private final Random random = new Random();
+    private final Matrix4f rotation = new Matrix4f();
+    private BukkitTask task;
+
+    // Entries [0, size) are live
+    private int size;
+    private TickedRenderer[] renderers = new TickedRenderer[INITIAL_CAPACITY];
+    private Snowball[] carriers = new Snowball[INITIAL_CAPACITY];
+    // Where the renderer was counted against the display budget
+    private Region[] regions = new Region[INITIAL_CAPACITY];
+    private int[] life = new int[INITIAL_CAPACITY];
+    private int[] viewerCountdown = new int[INITIAL_CAPACITY];
+    private RotationMode[] modes = new RotationMode[INITIAL_CAPACITY];
+    private float[] yawMultiplier = new float[INITIAL_CAPACITY];
+    private float[] yawOffset = new float[INITIAL_CAPACITY];
+    private float[] pitchMultiplier = new float[INITIAL_CAPACITY];
+    private float[] pitchOffset = new float[INITIAL_CAPACITY];
+    private SpinKeyframes[] spins = new SpinKeyframes[INITIAL_CAPACITY];
+    private int[] spinAxis = new int[INITIAL_CAPACITY];
+    private int[] spinFrame = new int[INITIAL_CAPACITY];
+    private double[] lastDirX = new double[INITIAL_CAPACITY];
+    private double[] lastDirY = new double[INITIAL_CAPACITY];
+    private double[] lastDirZ = new double[INITIAL_CAPACITY];
+    private float[] rotationStep = new float[INITIAL_CAPACITY];
+    private float[] rotationThreshold = new float[INITIAL_CAPACITY];
+    private int[] rotationInterval = new int[INITIAL_CAPACITY];
+    // Last yaw/pitch sent to clients (quantized, degrees) and ticks since then
+    private float[] sentYaw = new float[INITIAL_CAPACITY];
+    private float[] sentPitch = new float[INITIAL_CAPACITY];
+    private int[] sinceSent = new int[INITIAL_CAPACITY];
+
+    // Active renderers per world and per region
+    private final Map<UUID, Integer> worldCounts = new HashMap<>();
+    private final Map<Region, Integer> regionCounts = new HashMap<>();
+
+    // Instrumentation
+    private long worldBudgetFallbacks;
+    private long regionBudgetFallbacks;
+    private final long[] costNanos = new long[COST_BUCKETS];
+    private final long[] costTicks = new long[COST_BUCKETS];
+    private long lastTickNanos;
+    private int peakSize;
+
+    RendererTicker(JavaPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    void start() {
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        }
+    }
+
+    /**
+     * Stop ticking and remove every active renderer.
+     */
+    void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        while (size > 0) {
+            renderers[size - 1].remove();
+            removeAt(size - 1);
+        }
+    }
+
+    /**
+     * Start ticking a renderer whose entities were just spawned and mounted, and set its initial facing.
+     */
+    void add(TickedRenderer renderer, Snowball carrier, RotationMode mode,
+             RotationUpdates updates, SpinKeyframes spin, float yawMul, float yawOff, float pitchMul, float pitchOff) {
+        if (size == renderers.length) grow();
+
+        int i = size++;
+        renderers[i] = renderer;
+        carriers[i] = carrier;
+        regions[i] = regionOf(carrier.getLocation());
+        worldCounts.merge(regions[i].world(), 1, Integer::sum);
+        regionCounts.merge(regions[i], 1, Integer::sum);
+        life[i] = MAX_LIFE;
+        // Nobody tracks the carrier yet - first viewer pass on the next tick
+        viewerCountdown[i] = 1;
+        modes[i] = mode;
+        yawMultiplier[i] = yawMul;
+        yawOffset[i] = yawOff;
+        pitchMultiplier[i] = pitchMul;
+        pitchOffset[i] = pitchOff;
+        lastDirX[i] = 0;
+        lastDirY[i] = 0;
+        lastDirZ[i] = 1;
+        rotationStep[i] = updates.stepDegrees();
+        rotationThreshold[i] = updates.thresholdDegrees();
+        rotationInterval[i] = updates.intervalTicks();
+        sinceSent[i] = 0;
+
+        spins[i] = spin;
+        spinFrame[i] = 0;
+        if (mode == RotationMode.SPIN_RANDOM) {
+            // Each throw spins around one of the definition's precomputed axes
+            spinAxis[i] = random.nextInt(spin.axisCount());
+        }
+
+        peakSize = Math.max(peakSize, size);
+
+        Vector initDir = carrier.getVelocity();
+        if (initDir.lengthSquared() < 1e-10) {
+            initDir = carrier.getLocation().getDirection();
+        }
+        updateRotation(i, initDir.getX(), initDir.getY(), initDir.getZ(), true);
+    }
+
+    /**
+     * Check whether one more display renderer fits the budget at this location. A limit of 0 means unlimited.
+     * Refusals are counted, so operators can see how often throws fall back to simple rendering.
+     */
+    boolean fitsBudget(Location location, int worldLimit, int regionLimit) {
+        Region region = regionOf(location);
+        if (worldLimit > 0 && worldCounts.getOrDefault(region.world(), 0) >= worldLimit) {
+            worldBudgetFallbacks++;
+            return false;
+        }
+        if (regionLimit > 0 && regionCounts.getOrDefault(region, 0) >= regionLimit) {
+            regionBudgetFallbacks++;
+            return false;
+        }
+        return true;
+    }
+
+    private static Region regionOf(Location location) {
+        return new Region(location.getWorld().getUID(),
+            location.getBlockX() >> (4 + REGION_SHIFT), location.getBlockZ() >> (4 + REGION_SHIFT));
+    }
+
+    int size() {
+        return size;
+    }
+
+    long worldBudgetFallbacks() {
+        return worldBudgetFallbacks;
+    }
+
+    long regionBudgetFallbacks() {
+        return regionBudgetFallbacks;
+    }
+
+    static int regionChunks() {
+        return REGION_CHUNKS;
+    }
+
+    int peakSize() {
+        return peakSize;
+    }
+
+    long lastTickNanos() {
+        return lastTickNanos;
+    }
+
+    /**
+     * Tick cost by renderer count, for every count range that has been observed.
+     */
+    List<TickCost> costByRendererCount() {
+        List<TickCost> costs = new ArrayList<>();
+        for (int b = 1; b < COST_BUCKETS; b++) {
+            if (costTicks[b] == 0) continue;
+            int min = 1 << (b - 1);
+            int max = (1 << b) - 1;
+            costs.add(new TickCost(min, max, costTicks[b], costNanos[b] / 1000.0 / costTicks[b]));
+        }
+        return costs;
+    }
+
+    // ========================================================================
+    // Tick
+    // ========================================================================
+
+    private void tick() {
+        if (size == 0) return;
+        long start = System.nanoTime();
+        int count = size;
+
+        for (int i = 0; i < size; ) {
+            TickedRenderer renderer = renderers[i];
+            Snowball carrier = carriers[i];
+
+            if (renderer.isRemoved()) {
+                removeAt(i);
+                continue;
+            }
+            if (life[i]-- <= 0 || carrier.isDead() || !carrier.isValid()) {
+                renderer.remove();
+                removeAt(i);
+                continue;
+            }
+
+            // Unrotated displays keep their spawn transform - nothing to recompute
+            if (modes[i] != RotationMode.NONE) {
+                // Velocity as already adjusted by ProjectilePhysics this tick
+                Vector vel = carrier.getVelocity();
+                updateRotation(i, vel.getX(), vel.getY(), vel.getZ(), false);
+            }
+
+            if (--viewerCountdown[i] <= 0) {
+                viewerCountdown[i] = VIEWER_INTERVAL;
+                renderer.updateViewers();
+            }
+            i++;
+        }
+
+        lastTickNanos = System.nanoTime() - start;
+        int bucket = Math.min(COST_BUCKETS - 1, 32 - Integer.numberOfLeadingZeros(count));
+        costNanos[bucket] += lastTickNanos;
+        costTicks[bucket]++;
+    }
+
+    /**
+     * @param force Send the rotation even if it is within the threshold or interval (initial facing)
+     */
+    private void updateRotation(int i, double dx, double dy, double dz, boolean force) {
+        switch (modes[i]) {
+            case SPIN_RANDOM -> {
+                // Send the next keyframe every interval; the client interpolates the spin in between
+                if (!force && ++sinceSent[i] < spins[i].intervalTicks()) return;
+                sinceSent[i] = 0;
+                spinFrame[i] = (spinFrame[i] + 1) % spins[i].frameCount();
+                renderers[i].applyRotation(spins[i].frame(spinAxis[i], spinFrame[i]));
+                return;
+            }
+            case NONE -> rotation.identity();
+            default -> { // POINT_FORWARD
+                double lenSq = dx * dx + dy * dy + dz * dz;
+                if (lenSq < 1e-10) {
+                    dx = lastDirX[i];
+                    dy = lastDirY[i];
+                    dz = lastDirZ[i];
+                } else {
+                    double inv = 1.0 / Math.sqrt(lenSq);
+                    dx *= inv;
+                    dy *= inv;
+                    dz *= inv;
+                    lastDirX[i] = dx;
+                    lastDirY[i] = dy;
+                    lastDirZ[i] = dz;
+                }
+
+                // Calculate yaw and pitch from direction vector
+                float yawDeg = Angles.quantize(Angles.yaw(dx, dz), rotationStep[i]);
+                float pitchDeg = Angles.quantize(Angles.pitch(dx, dy, dz), rotationStep[i]);
+
+                // Each send is a metadata packet per part to every viewer - skip small or too frequent changes
+                if (!force) {
+                    if (++sinceSent[i] < rotationInterval[i]) return;
+                    float threshold = rotationThreshold[i];
+                    if (Math.abs(Angles.yawDelta(yawDeg, sentYaw[i])) < threshold
+                            && Math.abs(pitchDeg - sentPitch[i]) < threshold) {
+                        return;
+                    }
+                }
+                sentYaw[i] = yawDeg;
+                sentPitch[i] = pitchDeg;
+                sinceSent[i] = 0;
+
+                // Apply multipliers and offsets
+                float yawRad = (float) Math.toRadians(yawMultiplier[i] * yawDeg + yawOffset[i]);
+                float pitchRad = (float) Math.toRadians(pitchMultiplier[i] * pitchDeg + pitchOffset[i]);
+
+                // Yaw around Y, then pitch around X
+                rotation.rotationY(yawRad).rotateX(pitchRad);
+            }
+        }
+
+        renderers[i].applyRotation(rotation);
+    }
+
+    // ========================================================================
+    // Storage
+    // ========================================================================
+
+    private void removeAt(int i) {
+        Region region = regions[i];
+        worldCounts.computeIfPresent(region.world(), (k, v) -> v > 1 ? v - 1 : null);
+        regionCounts.computeIfPresent(region, (k, v) -> v > 1 ? v - 1 : null);
+
+        int last = --size;
+        if (i != last) {
+            renderers[i] = renderers[last];
+            carriers[i] = carriers[last];
+            regions[i] = regions[last];
+            life[i] = life[last];
+            viewerCountdown[i] = viewerCountdown[last];
+            modes[i] = modes[last];
+            yawMultiplier[i] = yawMultiplier[last];
+            yawOffset[i] = yawOffset[last];
+            pitchMultiplier[i] = pitchMultiplier[last];
+            pitchOffset[i] = pitchOffset[last];
+            spins[i] = spins[last];
+            spinAxis[i] = spinAxis[last];
+            spinFrame[i] = spinFrame[last];
+            lastDirX[i] = lastDirX[last];
+            lastDirY[i] = lastDirY[last];
+            lastDirZ[i] = lastDirZ[last];
+            rotationStep[i] = rotationStep[last];
+            rotationThreshold[i] = rotationThreshold[last];
+            rotationInterval[i] = rotationInterval[last];
+            sentYaw[i] = sentYaw[last];
+            sentPitch[i] = sentPitch[last];
+            sinceSent[i] = sinceSent[last];
+        }
+        // Drop references so removed entities can be collected
+        renderers[last] = null;
+        carriers[last] = null;
+        regions[last] = null;
+        modes[last] = null;
+        spins[last] = null;
+    }
+
+    private void grow() {
+        int capacity = renderers.length * 2;
+        renderers = Arrays.copyOf(renderers, capacity);
+        carriers = Arrays.copyOf(carriers, capacity);
+        regions = Arrays.copyOf(regions, capacity);
+        life = Arrays.copyOf(life, capacity);
+        viewerCountdown = Arrays.copyOf(viewerCountdown, capacity);
+        modes = Arrays.copyOf(modes, capacity);
+        yawMultiplier = Arrays.copyOf(yawMultiplier, capacity);
+        yawOffset = Arrays.copyOf(yawOffset, capacity);
+        pitchMultiplier = Arrays.copyOf(pitchMultiplier, capacity);
+        pitchOffset = Arrays.copyOf(pitchOffset, capacity);
+        spins = Arrays.copyOf(spins, capacity);
+        spinAxis = Arrays.copyOf(spinAxis, capacity);
+        spinFrame = Arrays.copyOf(spinFrame, capacity);
+        lastDirX = Arrays.copyOf(lastDirX, capacity);
+        lastDirY = Arrays.copyOf(lastDirY, capacity);
+        lastDirZ = Arrays.copyOf(lastDirZ, capacity);
+        rotationStep = Arrays.copyOf(rotationStep, capacity);
+        rotationThreshold = Arrays.copyOf(rotationThreshold, capacity);
+        rotationInterval = Arrays.copyOf(rotationInterval, capacity);
+        sentYaw = Arrays.copyOf(sentYaw, capacity);
+        sentPitch = Arrays.copyOf(sentPitch, capacity);
+        sinceSent = Arrays.copyOf(sinceSent, capacity);
+    }
+}
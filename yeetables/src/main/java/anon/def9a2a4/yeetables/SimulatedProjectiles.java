@@ -0,0 +1,306 @@
+package anon.def9a2a4.yeetables;
+
+import org.bukkit.Bukkit;
+import org.bukkit.FluidCollisionMode;
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.ItemDisplay;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.util.RayTraceResult;
+import org.bukkit.util.Vector;
+import org.joml.Matrix4f;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Entity-less projectiles for yeetables with {@code projectile-type: simulated}.
+ *
+ * The plugin integrates position and velocity itself, with the same per-tick order as a vanilla snowball
+ * (move, then drag, then gravity), and finds collisions by ray tracing each tick's flight segment.
+ * Nothing is added to the entity tracker except the optional item display that shows the projectile.
+ *
+ * State lives in parallel arrays like {@link RendererTicker}; removal moves the last entry into the freed slot.
+ */
+class SimulatedProjectiles {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int MAX_LIFE = 20 * 30;
+    // Vanilla snowball drag; gravity is ProjectilePhysics.SNOWBALL_GRAVITY
+    private static final double DRAG = 0.99;
+    static final double RAY_SIZE = 0.125;
+    // Ticks during which a projectile can't hit its own shooter, so it clears the thrower's hitbox
+    private static final int OWNER_GRACE_TICKS = 5;
+    // Below the world floor nothing can be hit anymore
+    private static final int VOID_DEPTH = 64;
+    private static final float DISPLAY_SCALE = 0.5f;
+
+    private final JavaPlugin plugin;
+    private final BiConsumer<HitContext, YeetableDefinition> hitHandler;
+    private BukkitTask task;
+
+    // Scratch objects for ray traces and display moves; never handed out
+    private final Location scratchLocation = new Location(null, 0, 0, 0);
+    private final Vector scratchDirection = new Vector();
+    private Entity ignoredShooter;
+    private final Predicate<Entity> hitFilter = e -> e != ignoredShooter && isHittable(e);
+
+    // Entries [0, size) are live
+    private int size;
+    private World[] worlds = new World[INITIAL_CAPACITY];
+    private YeetableDefinition[] definitions = new YeetableDefinition[INITIAL_CAPACITY];
+    private Player[] shooters = new Player[INITIAL_CAPACITY];
+    private ItemDisplay[] displays = new ItemDisplay[INITIAL_CAPACITY];
+    private double[] posX = new double[INITIAL_CAPACITY];
+    private double[] posY = new double[INITIAL_CAPACITY];
+    private double[] posZ = new double[INITIAL_CAPACITY];
+    private double[] velX = new double[INITIAL_CAPACITY];
+    private double[] velY = new double[INITIAL_CAPACITY];
+    private double[] velZ = new double[INITIAL_CAPACITY];
+    private double[] gravity = new double[INITIAL_CAPACITY];
+    private double[] dragFactor = new double[INITIAL_CAPACITY];
+    private double[] terminalSquared = new double[INITIAL_CAPACITY];
+    private int[] bounces = new int[INITIAL_CAPACITY];
+    private int[] age = new int[INITIAL_CAPACITY];
+
+    /**
+     * @param hitHandler Called on the main thread once a projectile hits something; it is already gone by then
+     */
+    SimulatedProjectiles(JavaPlugin plugin, BiConsumer<HitContext, YeetableDefinition> hitHandler) {
+        this.plugin = plugin;
+        this.hitHandler = hitHandler;
+    }
+
+    void start() {
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        }
+    }
+
+    /**
+     * Stop simulating and drop every projectile in flight without hitting anything.
+     */
+    void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        while (size > 0) {
+            removeAt(size - 1);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Start simulating a projectile.
+     *
+     * @param look Item shown in flight, by an item display or as a particle trail depending on the definition
+     */
+    void launch(Player shooter, YeetableDefinition def, Location start, Vector velocity, int remainingBounces,
+                ItemStack look) {
+        if (size == worlds.length) grow();
+
+        ProjectileProperties props = def.properties();
+        World world = start.getWorld();
+        int i = size++;
+        worlds[i] = world;
+        definitions[i] = def;
+        shooters[i] = shooter;
+        posX[i] = start.getX();
+        posY[i] = start.getY();
+        posZ[i] = start.getZ();
+        velX[i] = velocity.getX();
+        velY[i] = velocity.getY();
+        velZ[i] = velocity.getZ();
+        // Same multiplier of snowball gravity as an entity projectile gets from ProjectilePhysics
+        gravity[i] = ProjectilePhysics.SNOWBALL_GRAVITY
+            - ProjectilePhysics.gravityAdjustment(props, ProjectilePhysics.SNOWBALL_GRAVITY);
+        dragFactor[i] = DRAG * (1.0 - props.drag());
+        terminalSquared[i] = props.terminalVelocity() > 0
+            ? props.terminalVelocity() * props.terminalVelocity() : Double.POSITIVE_INFINITY;
+        bounces[i] = remainingBounces;
+        age[i] = 0;
+
+        if (def.simulatedVisual() == SimulatedVisual.DISPLAY) {
+            displays[i] = world.spawn(start, ItemDisplay.class, d -> {
+                d.setItemStack(look);
+                d.setBillboard(Display.Billboard.CENTER);
+                d.setTeleportDuration(1);
+                d.setViewRange(64f);
+                d.setPersistent(false);
+                d.setGravity(false);
+                d.setTransformationMatrix(new Matrix4f().scale(DISPLAY_SCALE));
+            });
+        } else {
+            displays[i] = null;
+        }
+    }
+
+    private void tick() {
+        for (int i = 0; i < size; ) {
+            World world = worlds[i];
+            double x = posX[i];
+            double y = posY[i];
+            double z = posZ[i];
+
+            if (age[i]++ >= MAX_LIFE || y < world.getMinHeight() - VOID_DEPTH
+                || !world.isChunkLoaded((int) Math.floor(x) >> 4, (int) Math.floor(z) >> 4)) {
+                removeAt(i);
+                continue;
+            }
+
+            // Like a vanilla projectile's owner, a shooter who quit is dropped - hits then have no shooter
+            if (shooters[i] != null && !shooters[i].isOnline()) {
+                shooters[i] = null;
+            }
+
+            double vx = velX[i];
+            double vy = velY[i];
+            double vz = velZ[i];
+
+            // Collide along this tick's flight segment
+            double length = Math.sqrt(vx * vx + vy * vy + vz * vz);
+            if (length > 1e-6) {
+                scratchLocation.setWorld(world);
+                scratchLocation.set(x, y, z);
+                scratchDirection.setX(vx / length).setY(vy / length).setZ(vz / length);
+                ignoredShooter = age[i] <= OWNER_GRACE_TICKS ? shooters[i] : null;
+                RayTraceResult result = world.rayTrace(scratchLocation, scratchDirection, length,
+                    FluidCollisionMode.NEVER, true, RAY_SIZE, hitFilter);
+                ignoredShooter = null;
+                if (result != null) {
+                    hit(i, result);
+                    continue;
+                }
+            }
+
+            // Move, then drag and gravity, like a vanilla snowball
+            x += vx;
+            y += vy;
+            z += vz;
+            posX[i] = x;
+            posY[i] = y;
+            posZ[i] = z;
+
+            vx *= dragFactor[i];
+            vy = vy * dragFactor[i] - gravity[i];
+            vz *= dragFactor[i];
+            double speedSq = vx * vx + vy * vy + vz * vz;
+            if (speedSq > terminalSquared[i]) {
+                double scale = Math.sqrt(terminalSquared[i] / speedSq);
+                vx *= scale;
+                vy *= scale;
+                vz *= scale;
+            }
+            velX[i] = vx;
+            velY[i] = vy;
+            velZ[i] = vz;
+
+            ItemDisplay display = displays[i];
+            if (display != null) {
+                if (!display.isValid()) {
+                    removeAt(i);
+                    continue;
+                }
+                scratchLocation.setWorld(world);
+                scratchLocation.set(x, y, z);
+                display.teleport(scratchLocation);
+            } else {
+                world.spawnParticle(Particle.ITEM, x, y, z, 1, 0, 0, 0, 0, definitions[i].particleItem());
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Remove projectile i and report what it hit.
+     */
+    private void hit(int i, RayTraceResult result) {
+        World world = worlds[i];
+        YeetableDefinition def = definitions[i];
+        Vector velocity = new Vector(velX[i], velY[i], velZ[i]);
+        Location location = result.getHitPosition().toLocation(world);
+        location.setDirection(velocity);
+
+        Entity hitEntity = result.getHitEntity();
+        Block hitBlock = hitEntity == null ? result.getHitBlock() : null;
+        BlockFace hitFace = hitEntity == null ? result.getHitBlockFace() : null;
+        HitContext context = new SimulatedHitContext(location, velocity, shooters[i], hitEntity, hitBlock, hitFace,
+            bounces[i]);
+
+        // Remove first, so the handler may launch new projectiles without touching this slot
+        removeAt(i);
+        hitHandler.accept(context, def);
+    }
+
+    /**
+     * Whether a plugin-traced projectile (simulated or hitscan) can hit this entity.
+     */
+    static boolean isHittable(Entity entity) {
+        if (!(entity instanceof LivingEntity)) return false;
+        if (entity instanceof Player player && player.getGameMode() == GameMode.SPECTATOR) return false;
+        return !GrappleAbility.isGrappleAnchor(entity);
+    }
+
+    private void removeAt(int i) {
+        if (displays[i] != null) {
+            displays[i].remove();
+        }
+
+        int last = --size;
+        if (i != last) {
+            worlds[i] = worlds[last];
+            definitions[i] = definitions[last];
+            shooters[i] = shooters[last];
+            displays[i] = displays[last];
+            posX[i] = posX[last];
+            posY[i] = posY[last];
+            posZ[i] = posZ[last];
+            velX[i] = velX[last];
+            velY[i] = velY[last];
+            velZ[i] = velZ[last];
+            gravity[i] = gravity[last];
+            dragFactor[i] = dragFactor[last];
+            terminalSquared[i] = terminalSquared[last];
+            bounces[i] = bounces[last];
+            age[i] = age[last];
+        }
+        // Drop references so worlds, players and entities can be collected
+        worlds[last] = null;
+        definitions[last] = null;
+        shooters[last] = null;
+        displays[last] = null;
+    }
+
+    private void grow() {
+        int capacity = worlds.length * 2;
+        worlds = Arrays.copyOf(worlds, capacity);
+        definitions = Arrays.copyOf(definitions, capacity);
+        shooters = Arrays.copyOf(shooters, capacity);
+        displays = Arrays.copyOf(displays, capacity);
+        posX = Arrays.copyOf(posX, capacity);
+        posY = Arrays.copyOf(posY, capacity);
+        posZ = Arrays.copyOf(posZ, capacity);
+        velX = Arrays.copyOf(velX, capacity);
+        velY = Arrays.copyOf(velY, capacity);
+        velZ = Arrays.copyOf(velZ, capacity);
+        gravity = Arrays.copyOf(gravity, capacity);
+        dragFactor = Arrays.copyOf(dragFactor, capacity);
+        terminalSquared = Arrays.copyOf(terminalSquared, capacity);
+        bounces = Arrays.copyOf(bounces, capacity);
+        age = Arrays.copyOf(age, capacity);
+    }
+}
@@ -1,18 +1,28 @@
 package anon.def9a2a4.yeetables;
 
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
 import org.bukkit.Bukkit;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Arrow;
 import org.bukkit.entity.Player;
+import org.bukkit.entity.Projectile;
 import org.bukkit.entity.Snowball;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
+import org.bukkit.event.entity.EntityPickupItemEvent;
 import org.bukkit.event.entity.EntityShootBowEvent;
 import org.bukkit.event.entity.ProjectileHitEvent;
 import org.bukkit.event.entity.EntityUnleashEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerItemHeldEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerSwapHandItemsEvent;
 import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.command.TabCompleter;
@@ -24,10 +34,19 @@ import java.util.List;
 import java.util.Map;
 
 public class YeetablesPlugin extends JavaPlugin implements Listener, TabCompleter {
+    private static final long RENDERER_SWEEP_TICKS = 20L * 5;
 
     private ConfigManager configManager;
     private ProjectileManager projectileManager;
     private HelpProvider helpProvider;
+    private HeldItemCache heldItemCache;
+    private CooldownTracker cooldownTracker;
+    private RendererTicker rendererTicker;
+    private DisplayPool displayPool;
+    private ProjectilePhysics projectilePhysics;
+    private SimulatedProjectiles simulatedProjectiles;
+    private HitscanQueue hitscanQueue;
+    private ConfigWatcher configWatcher;
 
     @Override
     public void onEnable() {
@@ -39,7 +58,26 @@ public class YeetablesPlugin extends JavaPlugin implements Listener, TabComplete
         configManager.load();
 
         helpProvider = new HelpProvider(configManager);
-        projectileManager = new ProjectileManager(this, configManager);
+        heldItemCache = new HeldItemCache(configManager);
+        cooldownTracker = new CooldownTracker(configManager);
+        // Physics first, so renderers rotate to this tick's velocity
+        projectilePhysics = new ProjectilePhysics(this);
+        projectilePhysics.start();
+        rendererTicker = new RendererTicker(this);
+        rendererTicker.start();
+        displayPool = new DisplayPool(this, configManager);
+        displayPool.start();
+        // Safety net for renderers whose carrier vanished without a hit or tick noticing
+        Bukkit.getScheduler().runTaskTimer(this, RendererRegistry::sweep, RENDERER_SWEEP_TICKS, RENDERER_SWEEP_TICKS);
+        simulatedProjectiles = new SimulatedProjectiles(this, (hit, def) -> projectileManager.handleHit(hit, def));
+        simulatedProjectiles.start();
+        hitscanQueue = new HitscanQueue((hit, def) -> projectileManager.handleHit(hit, def));
+        projectileManager = new ProjectileManager(this, configManager, cooldownTracker, rendererTicker, displayPool,
+            projectilePhysics, simulatedProjectiles, hitscanQueue);
+
+        // Edits saved during a running reload are picked up by one more reload afterwards
+        configWatcher = new ConfigWatcher(this, () -> configManager.requestReload(this::onConfigReloaded));
+        configWatcher.setEnabled(configManager.getSnapshot().autoReload());
 
         Bukkit.getPluginManager().registerEvents(this, this);
         getCommand("yeetables").setTabCompleter(this);
@@ -48,6 +86,25 @@ public class YeetablesPlugin extends JavaPlugin implements Listener, TabComplete
 
     @Override
     public void onDisable() {
+        if (configWatcher != null) {
+            configWatcher.stop();
+        }
+        if (rendererTicker != null) {
+            rendererTicker.stop();
+        }
+        // After the ticker, which parks the remaining models in the pool
+        if (displayPool != null) {
+            displayPool.stop();
+        }
+        if (projectilePhysics != null) {
+            projectilePhysics.stop();
+        }
+        if (simulatedProjectiles != null) {
+            simulatedProjectiles.stop();
+        }
+        if (hitscanQueue != null) {
+            hitscanQueue.clear();
+        }
         getLogger().info("Yeetables disabled.");
     }
 
@@ -63,9 +120,13 @@ public class YeetablesPlugin extends JavaPlugin implements Listener, TabComplete
                     sender.sendMessage("You don't have permission to reload this plugin.");
                     return true;
                 }
-                reloadConfig();
-                configManager.load();
-                sender.sendMessage("Yeetables config reloaded!");
+                boolean started = configManager.reloadAsync(() -> {
+                    onConfigReloaded();
+                    sender.sendMessage("Yeetables config reloaded!");
+                });
+                if (!started) {
+                    sender.sendMessage("A reload is already in progress.");
+                }
                 return true;
             }
             if (args[0].equalsIgnoreCase("list")) {
@@ -88,6 +149,14 @@ public class YeetablesPlugin extends JavaPlugin implements Listener, TabComplete
                 helpProvider.showHelp(sender);
                 return true;
             }
+            if (args[0].equalsIgnoreCase("stats")) {
+                if (!sender.hasPermission("yeetables.stats")) {
+                    sender.sendMessage("You don't have permission to use this command.");
+                    return true;
+                }
+                helpProvider.showStats(sender, rendererTicker, simulatedProjectiles, hitscanQueue);
+                return true;
+            }
             if (args[0].equalsIgnoreCase("give")) {
                 if (!sender.hasPermission("yeetables.give")) {
                     sender.sendMessage("You don't have permission to use this command.");
@@ -116,6 +185,29 @@ public class YeetablesPlugin extends JavaPlugin implements Listener, TabComplete
         return false;
     }
 
+    public ConfigManager getConfigManager() {
+        return configManager;
+    }
+
+    public ProjectileManager getProjectileManager() {
+        return projectileManager;
+    }
+
+    /**
+     * Number of projectile renderers currently alive.
+     */
+    public int getActiveRendererCount() {
+        return RendererRegistry.size();
+    }
+
+    /**
+     * Called on the main thread after a new config snapshot went live.
+     */
+    private void onConfigReloaded() {
+        heldItemCache.clear();
+        configWatcher.setEnabled(configManager.getSnapshot().autoReload());
+    }
+
     @Override
     public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
         if (!command.getName().equalsIgnoreCase("yeetables")) {
@@ -135,6 +227,9 @@ public class YeetablesPlugin extends JavaPlugin implements Listener, TabComplete
             if (sender.hasPermission("yeetables.give")) {
                 subcommands.add("give");
             }
+            if (sender.hasPermission("yeetables.stats")) {
+                subcommands.add("stats");
+            }
             for (String sub : subcommands) {
                 if (sub.toLowerCase().startsWith(args[0].toLowerCase())) {
                     completions.add(sub);
@@ -164,14 +259,57 @@ public class YeetablesPlugin extends JavaPlugin implements Listener, TabComplete
         if (action != Action.RIGHT_CLICK_AIR && action != Action.RIGHT_CLICK_BLOCK) return;
 
         Player player = event.getPlayer();
-        ItemStack inHand = player.getInventory().getItemInMainHand();
-
-        YeetableDefinition def = configManager.findMatchingYeetable(inHand);
+        YeetableDefinition def = heldItemCache.resolve(player);
         if (def == null) return;
 
         if (projectileManager.isOnCooldown(player, def)) return;
 
         projectileManager.launch(player, def);
+        heldItemCache.afterThrow(player);
+    }
+
+    // Held item cache invalidation - anything that may change what is in the player's main hand
+
+    @EventHandler
+    public void onItemHeld(PlayerItemHeldEvent event) {
+        heldItemCache.invalidate(event.getPlayer());
+    }
+
+    @EventHandler
+    public void onSwapHands(PlayerSwapHandItemsEvent event) {
+        heldItemCache.invalidate(event.getPlayer());
+    }
+
+    @EventHandler
+    public void onInventoryClick(InventoryClickEvent event) {
+        if (event.getWhoClicked() instanceof Player player) {
+            heldItemCache.invalidate(player);
+        }
+    }
+
+    @EventHandler
+    public void onInventoryDrag(InventoryDragEvent event) {
+        if (event.getWhoClicked() instanceof Player player) {
+            heldItemCache.invalidate(player);
+        }
+    }
+
+    @EventHandler
+    public void onPickupItem(EntityPickupItemEvent event) {
+        if (event.getEntity() instanceof Player player) {
+            heldItemCache.invalidate(player);
+        }
+    }
+
+    @EventHandler
+    public void onDropItem(PlayerDropItemEvent event) {
+        heldItemCache.invalidate(event.getPlayer());
+    }
+
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        heldItemCache.invalidate(event.getPlayer());
+        cooldownTracker.release(event.getPlayer());
     }
 
     @EventHandler
@@ -181,14 +319,26 @@ public class YeetablesPlugin extends JavaPlugin implements Listener, TabComplete
         } else if (event.getEntity() instanceof Arrow arrow) {
             // Check if this is a grapple arrow
             if (GrappleAbility.isGrappleArrow(arrow)) {
-                YeetableDefinition def = configManager.getYeetableById("grappling_hook");
-                if (def != null) {
-                    GrappleAbility.onArrowHit(event, arrow, def.abilityConfig());
+                YeetableDefinition def = projectileManager.resolveDefinition(arrow);
+                if (def != null && def.abilityConfig() instanceof GrappleConfig grapple) {
+                    GrappleAbility.onArrowHit(event, arrow, grapple);
                 }
             }
         }
     }
 
+    @EventHandler
+    public void onTickEnd(ServerTickEndEvent event) {
+        hitscanQueue.resolve();
+    }
+
+    @EventHandler
+    public void onEntityRemove(EntityRemoveFromWorldEvent event) {
+        if (event.getEntity() instanceof Projectile projectile) {
+            projectileManager.untrack(projectile);
+        }
+    }
+
     @EventHandler
     public void onEntityShootBow(EntityShootBowEvent event) {
         if (!(event.getEntity() instanceof Player player)) return;
@@ -197,7 +347,7 @@ public class YeetablesPlugin extends JavaPlugin implements Listener, TabComplete
 
         // Check if this is a grappling hook - prevent normal crossbow firing
         YeetableDefinition def = configManager.findMatchingYeetable(bow);
-        if (def != null && "grapple".equals(def.ability())) {
+        if (def != null && def.abilityHandler() instanceof GrappleAbility) {
             event.setCancelled(true);
         }
     }